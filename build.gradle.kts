@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -15,6 +16,16 @@ allprojects {
     group = property("app.group").toString()
 }
 
+// load test sources (src/loadTest): 애플리케이션 코드와 같은 classpath 로 실행
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+configurations["loadTestImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadTestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
 dependencyManagement {
     imports {
         mavenBom(libs.spring.cloud.dependencies.get().toString())
@@ -23,10 +34,13 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    "loadTestImplementation"(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -50,3 +64,48 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+// benchmark tasks (src/jmh)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    // ./gradlew jmh -Pjmh.includes=PointServiceBenchmark
+    project.findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+}
+tasks.register<JavaExec>("lockFootprint") {
+    group = "benchmark"
+    description = "사용자 Lock 구현별 메모리 사용량을 측정합니다. (-Pusers=10000000)"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.lock.UserLockFootprint")
+    maxHeapSize = "4g"
+    args(project.findProperty("users")?.toString() ?: "10000000")
+}
+
+tasks.register<JavaExec>("historyFootprint") {
+    group = "benchmark"
+    description = "포인트 내역 저장 방식별 메모리 사용량을 측정합니다. (-Phistories=20000000)"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.repository.PointHistoryFootprint")
+    maxHeapSize = "4g"
+    args(project.findProperty("histories")?.toString() ?: "20000000")
+}
+
+// ledger export task
+tasks.register<JavaExec>("ledgerExport") {
+    group = "application"
+    description = "실행 중인 인스턴스의 전체 포인트 내역을 파일로 내보내고 초당 내역 수를 출력합니다. (-PledgerExport.args=\"url=http://localhost:8080 format=binary out=build/ledger/ledger.bin\")"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.point.export.PointHistoryExportCli")
+    args((project.findProperty("ledgerExport.args")?.toString() ?: "").split(" ").filter { it.isNotBlank() })
+}
+
+// load test tasks (src/loadTest)
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "애플리케이션을 띄우고 open-loop 부하를 걸어 엔드포인트별 지연 시간 분포를 측정합니다. (-PloadTest.args=\"rate=2000 --point.execution.mode=partitioned\")"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.PointLoadTest")
+    maxHeapSize = "2g"
+    args((project.findProperty("loadTest.args")?.toString() ?: "").split(" ").filter { it.isNotBlank() })
+}
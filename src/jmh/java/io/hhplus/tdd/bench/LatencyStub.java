@@ -0,0 +1,27 @@
+package io.hhplus.tdd.bench;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 테이블의 무작위 throttle 대신 고정 지연을 주는 스텁 (벤치마크 결과 재현용)
+ */
+public final class LatencyStub {
+
+    private final long latencyNanos;
+
+    public LatencyStub(long latencyMicros) {
+        this.latencyNanos = latencyMicros * 1_000L;
+    }
+
+    public void pause() {
+        if (latencyNanos <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + latencyNanos;
+        long remaining = latencyNanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
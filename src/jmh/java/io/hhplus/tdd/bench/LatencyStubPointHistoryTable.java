@@ -0,0 +1,38 @@
+package io.hhplus.tdd.bench;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PointHistoryTable 의 공개 API 를 그대로 따르되, 무작위 throttle 대신 고정 지연을 사용하는 벤치마크용 테이블
+ * - selectAllByUserId 는 원본과 같이 전체 목록을 훑는다. (인덱스 조회와의 비교 기준)
+ */
+public class LatencyStubPointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final LatencyStub insertLatency;
+    private long cursor = 1;
+
+    public LatencyStubPointHistoryTable(long insertLatencyMicros) {
+        this.insertLatency = new LatencyStub(insertLatencyMicros);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        insertLatency.pause();
+        synchronized (this) {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+    }
+
+    @Override
+    public synchronized List<PointHistory> selectAllByUserId(long userId) {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.bench;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserPointTable 의 공개 API 를 그대로 따르되, 무작위 throttle 대신 고정 지연을 사용하는 벤치마크용 테이블
+ */
+public class LatencyStubUserPointTable extends UserPointTable {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final LatencyStub readLatency;
+    private final LatencyStub writeLatency;
+
+    public LatencyStubUserPointTable(long readLatencyMicros, long writeLatencyMicros) {
+        this.readLatency = new LatencyStub(readLatencyMicros);
+        this.writeLatency = new LatencyStub(writeLatencyMicros);
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        readLatency.pause();
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        writeLatency.pause();
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
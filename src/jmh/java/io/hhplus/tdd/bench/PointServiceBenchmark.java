@@ -0,0 +1,112 @@
+package io.hhplus.tdd.bench;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.ShardedBalances;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.executor.LockingPointCommandExecutor;
+import io.hhplus.tdd.point.executor.OptimisticPointCommandExecutor;
+import io.hhplus.tdd.point.executor.PartitionedPointCommandExecutor;
+import io.hhplus.tdd.point.executor.PointCommandExecutor;
+import io.hhplus.tdd.point.hotkey.HotKeyTracker;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 충전/사용 경로의 처리량
+ * - singleUser: 모든 스레드가 한 사용자에게 충전/사용 (경합 + 그룹 커밋)
+ * - manyUsers: 요청이 여러 사용자에게 고르게 분산
+ * - mixed: readPercent 비율만큼 잔고 조회, 나머지는 충전/사용
+ * 충전 후 같은 금액을 사용하므로 잔고는 최대 잔고 정책에 걸리지 않는 범위에서 유지됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PointServiceBenchmark {
+
+    @Param({"lock", "partitioned", "optimistic"})
+    public String executionMode;
+
+    @Param({"0", "200"})
+    public long tableLatencyMicros;
+
+    @Param({"10000"})
+    public int userCount;
+
+    @Param({"50"})
+    public int readPercent;
+
+    private PointService pointService;
+    private PointHistoryRepositoryImpl pointHistoryRepository;
+    private PointCommandExecutor pointCommandExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry(); // 계측 비용까지 포함해서 측정
+        pointHistoryRepository = new PointHistoryRepositoryImpl(new LatencyStubPointHistoryTable(tableLatencyMicros), meterRegistry);
+        CachingUserPointRepository userPointRepository = new CachingUserPointRepository(
+                new UserPointRepositoryImpl(new LatencyStubUserPointTable(tableLatencyMicros, tableLatencyMicros), meterRegistry), 100_000);
+        pointCommandExecutor = switch (executionMode) {
+            case "partitioned" -> new PartitionedPointCommandExecutor(16, 100_000, meterRegistry);
+            case "optimistic" -> new OptimisticPointCommandExecutor(new StripedUserLockManager(1024), 8, 1000L, meterRegistry);
+            default -> new LockingPointCommandExecutor(new StripedUserLockManager(1024), 0L, new HotKeyTracker(100, 4096, 60L), meterRegistry);
+        };
+        pointService = new PointService(userPointRepository, pointHistoryRepository, pointCommandExecutor, Runnable::run, new ShardedBalances(List.of(), 16, meterRegistry));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (pointCommandExecutor instanceof PartitionedPointCommandExecutor partitioned) {
+            partitioned.close();
+        }
+        pointHistoryRepository.close();
+    }
+
+    @State(Scope.Thread)
+    public static class UserIds {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public UserPoint singleUser() {
+        return chargeThenUse(1L);
+    }
+
+    @Benchmark
+    public UserPoint manyUsers(UserIds userIds) {
+        return chargeThenUse(1 + userIds.random.nextInt(userCount));
+    }
+
+    @Benchmark
+    public UserPoint mixed(UserIds userIds) {
+        long userId = 1 + userIds.random.nextInt(userCount);
+        if (userIds.random.nextInt(100) < readPercent) {
+            return pointService.getUserPoint(userId);
+        }
+        return chargeThenUse(userId);
+    }
+
+    private UserPoint chargeThenUse(long userId) {
+        pointService.chargeUserPoint(userId, 1L);
+        return pointService.useUserPoint(userId, 1L);
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 비교 기준용: 기존 PointService 의 userLock 방식 (제거되지 않는 맵 + fair ReentrantLock)
+ */
+class LegacyUserLockManager implements UserLockManager {
+
+    private final ConcurrentHashMap<Long, ReentrantLock> userLock = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        ReentrantLock lock = userLock.computeIfAbsent(userId, id -> new ReentrantLock(true));
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, long timeout, TimeUnit unit, Supplier<T> action) {
+        ReentrantLock lock = userLock.computeIfAbsent(userId, id -> new ReentrantLock(true));
+        if (!StripedUserLockManager.tryLock(lock, timeout, unit)) {
+            throw new LockTimeoutException(userId);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int activeLocks() {
+        return userLock.size();
+    }
+
+    @Override
+    public int waitingThreads() {
+        return userLock.values().stream().mapToInt(ReentrantLock::getQueueLength).sum();
+    }
+
+    static UserLockManager create(String mode) {
+        return switch (mode) {
+            case "legacy" -> new LegacyUserLockManager();
+            case "striped" -> new StripedUserLockManager(1024);
+            case "ref-counted" -> new RefCountedUserLockManager();
+            default -> throw new IllegalArgumentException("알 수 없는 Lock 방식입니다: " + mode);
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.lock;
+
+import java.lang.ref.Reference;
+import java.util.List;
+
+/**
+ * 사용자 Lock 구현별로 서로 다른 사용자 N 명을 한 번씩 처리한 뒤 남는 힙 크기와 처리 속도를 측정합니다.
+ * 실행: ./gradlew lockFootprint -Pusers=10000000
+ */
+public final class UserLockFootprint {
+
+    private UserLockFootprint() {
+    }
+
+    public static void main(String[] args) {
+        long users = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        System.out.printf("%-12s %14s %14s%n", "mode", "retained(MB)", "ops/s");
+        for (String mode : List.of("legacy", "striped", "ref-counted")) {
+            long before = usedHeap();
+            UserLockManager userLockManager = LegacyUserLockManager.create(mode);
+            long start = System.nanoTime();
+            for (long userId = 1; userId <= users; userId++) {
+                userLockManager.executeWithLock(userId, () -> null);
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            long retained = usedHeap() - before;
+            System.out.printf("%-12s %14.1f %14.0f%n", mode, retained / 1024.0 / 1024.0, users * 1e9 / elapsedNanos);
+            Reference.reachabilityFence(userLockManager);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.lock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 Lock 구현별 처리량 비교
+ * - spreadUsers: 1000만 명의 서로 다른 사용자에게 고르게 분산된 요청
+ * - hotUser: 한 사용자에게 몰린 요청 (fair Lock 의 경합 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserLockManagerBenchmark {
+
+    @Param({"legacy", "striped", "ref-counted"})
+    public String mode;
+
+    @Param({"10000000"})
+    public long distinctUsers;
+
+    private UserLockManager userLockManager;
+
+    @Setup
+    public void setUp() {
+        userLockManager = LegacyUserLockManager.create(mode);
+    }
+
+    @State(Scope.Thread)
+    public static class UserIds {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long spreadUsers(UserIds userIds) {
+        long userId = 1 + userIds.random.nextLong(distinctUsers);
+        return userLockManager.executeWithLock(userId, () -> userId);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long hotUser() {
+        return userLockManager.executeWithLock(1L, () -> 1L);
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.bench.LatencyStubPointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 내역 저장 방식별로 N 건을 저장한 뒤 남는 힙 크기를 측정합니다.
+ * - table: PointHistoryTable(ArrayList<PointHistory>) + 사용자별 인덱스 (PointHistoryRepositoryImpl)
+ * - columnar: 컬럼별 primitive 배열 + 사용자별 행 번호 인덱스 (ColumnarPointHistoryRepository)
+ * 실행: ./gradlew historyFootprint -Phistories=20000000
+ */
+public final class PointHistoryFootprint {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    private PointHistoryFootprint() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int histories = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        System.out.printf("%-10s %14s %14s %14s%n", "storage", "retained(MB)", "bytes/entry", "entries/s");
+        for (String storage : List.of("table", "columnar")) {
+            long before = usedHeap();
+            PointHistoryRepository repository = create(storage);
+            long start = System.nanoTime();
+            List<PointHistory> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < histories; i++) {
+                TransactionType type = (i & 1) == 0 ? TransactionType.CHARGE : TransactionType.USE;
+                batch.add(new PointHistory(0, i % USER_COUNT, 100L, type, i));
+                if (batch.size() == BATCH_SIZE || i == histories - 1) {
+                    repository.saveAllAsync(batch).join();
+                    batch.clear();
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            long retained = usedHeap() - before;
+            System.out.printf("%-10s %14.1f %14.1f %14.0f%n", storage, retained / 1024.0 / 1024.0,
+                    (double) retained / histories, histories * 1e9 / elapsedNanos);
+            if (repository instanceof PointHistoryRepositoryImpl impl) {
+                impl.close();
+            }
+            Reference.reachabilityFence(repository);
+        }
+    }
+
+    private static PointHistoryRepository create(String storage) {
+        return switch (storage) {
+            case "table" -> new PointHistoryRepositoryImpl(new LatencyStubPointHistoryTable(0), new SimpleMeterRegistry());
+            case "columnar" -> new ColumnarPointHistoryRepository(new SimpleMeterRegistry());
+            default -> throw new IllegalArgumentException("알 수 없는 저장 방식입니다: " + storage);
+        };
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.bench.LatencyStubPointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내역 수(tableSize)에 따른 사용자별 내역 조회 비용
+ * - indexedLookup: PointHistoryRepository.findByUserId (사용자별 인덱스)
+ * - tableScan: PointHistoryTable.selectAllByUserId 와 같은 전체 스캔 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryRepositoryBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int tableSize;
+
+    @Param({"1000"})
+    public int userCount;
+
+    private LatencyStubPointHistoryTable pointHistoryTable;
+    private PointHistoryRepositoryImpl pointHistoryRepository;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryTable = new LatencyStubPointHistoryTable(0);
+        pointHistoryRepository = new PointHistoryRepositoryImpl(pointHistoryTable, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < tableSize; i++) {
+            pointHistoryRepository.saveAsync(new PointHistory(0, 1 + i % userCount, 10L, TransactionType.CHARGE, now + i));
+        }
+        pointHistoryRepository.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointHistoryRepository.close();
+    }
+
+    @Benchmark
+    public List<PointHistory> indexedLookup() {
+        return pointHistoryRepository.findByUserId(1L + random.nextInt(userCount));
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return pointHistoryTable.selectAllByUserId(1L + random.nextInt(userCount));
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 분포(µs)와 응답 상태 수
+ * - corrected: 예정된 전송 시각부터 응답까지 (서버가 밀려 늦게 보낸 시간까지 포함, coordinated omission 보정)
+ * - uncorrected: 실제 전송 시각부터 응답까지 (closed-loop 도구가 보고하는 값과 같음)
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram corrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram uncorrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder(); // 연결 실패, timeout
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, int status) {
+        corrected.recordValue(toMicros(completedNanos - intendedNanos));
+        uncorrected.recordValue(toMicros(completedNanos - sentNanos));
+        if (status < 0) {
+            failures.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    Histogram corrected() {
+        return corrected;
+    }
+
+    Histogram uncorrected() {
+        return uncorrected;
+    }
+
+    long success() {
+        return success.sum();
+    }
+
+    long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+}
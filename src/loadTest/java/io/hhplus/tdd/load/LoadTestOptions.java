@@ -0,0 +1,102 @@
+package io.hhplus.tdd.load;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 설정 (key=value 인자, -- 로 시작하는 인자는 애플리케이션 설정으로 전달)
+ *
+ * @param rate         초당 요청 수 (응답과 무관하게 이 속도로 보낸다.)
+ * @param duration     측정 시간 (초)
+ * @param warmup       측정 전에 같은 부하를 거는 시간 (초, 결과에서 제외)
+ * @param arrival      요청 간격 (constant: 일정, poisson: 지수 분포)
+ * @param users        사용자 수 (userId 1 ~ users)
+ * @param distribution 사용자 선택 분포 (uniform, zipf)
+ * @param zipfExponent zipf 분포의 지수 (클수록 상위 사용자에 요청이 몰림)
+ * @param mix          엔드포인트별 가중치
+ * @param amount       충전/사용 금액
+ * @param maxInFlight  응답을 기다리는 최대 요청 수 (넘으면 보내기를 대기하고, 그 시간은 지연 시간에 포함)
+ * @param output       엔드포인트별 .hgrm 파일 위치
+ * @param seed         사용자/엔드포인트 선택 난수 seed
+ */
+record LoadTestOptions(
+        int rate,
+        int duration,
+        int warmup,
+        String arrival,
+        int users,
+        String distribution,
+        double zipfExponent,
+        Map<PointEndpoint, Integer> mix,
+        long amount,
+        int maxInFlight,
+        String output,
+        long seed,
+        List<String> applicationArgs
+) {
+
+    private static final Set<String> KEYS = Set.of("rate", "duration", "warmup", "arrival", "users", "distribution",
+            "zipf-exponent", "mix", "amount", "max-in-flight", "output", "seed");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                applicationArgs.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0 || !KEYS.contains(arg.substring(0, separator))) {
+                throw new IllegalArgumentException("알 수 없는 인자입니다: " + arg + " (사용 가능: " + KEYS + ")");
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "1000")),
+                Integer.parseInt(values.getOrDefault("duration", "30")),
+                Integer.parseInt(values.getOrDefault("warmup", "5")),
+                values.getOrDefault("arrival", "constant"),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                values.getOrDefault("distribution", "zipf"),
+                Double.parseDouble(values.getOrDefault("zipf-exponent", "0.99")),
+                parseMix(values.getOrDefault("mix", "point:40,histories:10,charge:30,use:20")),
+                Long.parseLong(values.getOrDefault("amount", "10")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                values.getOrDefault("output", "build/load-test"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                List.copyOf(applicationArgs)
+        );
+        if (options.rate <= 0 || options.duration <= 0 || options.warmup < 0 || options.users <= 0
+                || options.amount <= 0 || options.maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate, duration, users, amount, max-in-flight 는 0 보다 커야 합니다.");
+        }
+        if (!options.arrival.equals("constant") && !options.arrival.equals("poisson")) {
+            throw new IllegalArgumentException("arrival 은 constant 또는 poisson 이어야 합니다: " + options.arrival);
+        }
+        return options;
+    }
+
+    // point:40,histories:10,charge:30,use:20
+    private static Map<PointEndpoint, Integer> parseMix(String value) {
+        Map<PointEndpoint, Integer> mix = new HashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 는 endpoint:가중치 목록이어야 합니다: " + value);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix 가중치는 0 이상이어야 합니다: " + entry);
+            }
+            mix.put(PointEndpoint.from(pair[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix 가중치의 합은 0 보다 커야 합니다: " + value);
+        }
+        return Map.copyOf(mix);
+    }
+}
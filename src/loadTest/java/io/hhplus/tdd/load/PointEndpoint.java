@@ -0,0 +1,57 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 대상 /point 엔드포인트
+ */
+enum PointEndpoint {
+    POINT("point"),
+    HISTORIES("histories"),
+    CHARGE("charge"),
+    USE("use");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String label;
+
+    PointEndpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    HttpRequest request(URI baseUri, long userId, long amount) {
+        return switch (this) {
+            case POINT -> get(baseUri.resolve("/point/" + userId));
+            case HISTORIES -> get(baseUri.resolve("/point/" + userId + "/histories"));
+            case CHARGE -> patch(baseUri.resolve("/point/" + userId + "/charge"), amount);
+            case USE -> patch(baseUri.resolve("/point/" + userId + "/use"), amount);
+        };
+    }
+
+    static PointEndpoint from(String label) {
+        for (PointEndpoint endpoint : values()) {
+            if (endpoint.label.equals(label)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + label);
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private static HttpRequest patch(URI uri, long amount) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)))
+                .build();
+    }
+}
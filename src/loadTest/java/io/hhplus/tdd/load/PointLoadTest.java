@@ -0,0 +1,151 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.TddApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 애플리케이션을 임의 포트로 띄우고 /point 엔드포인트에 open-loop 부하를 건 뒤 지연 시간 분포를 출력합니다.
+ * - open-loop: 응답을 기다리지 않고 정해진 시각표(rate)대로 요청을 보내므로, 서버가 느려지면 대기 요청이 쌓입니다.
+ * - 지연 시간은 예정된 전송 시각부터 측정하므로 보내기가 밀린 시간도 포함됩니다. (coordinated omission 보정)
+ * 실행: ./gradlew loadTest -PloadTest.args="rate=2000 distribution=zipf --point.execution.mode=partitioned"
+ */
+public final class PointLoadTest {
+
+    private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final Map<PointEndpoint, EndpointStats> stats = new EnumMap<>(PointEndpoint.class);
+
+    private PointLoadTest(LoadTestOptions options, URI baseUri) {
+        this.options = options;
+        this.baseUri = baseUri;
+        for (PointEndpoint endpoint : PointEndpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<String> applicationArgs = new ArrayList<>(List.of("--server.port=0", "--spring.main.banner-mode=off",
+                "--logging.level.io.hhplus.tdd=WARN"));
+        applicationArgs.addAll(options.applicationArgs());
+        ConfigurableApplicationContext context = SpringApplication.run(TddApplication.class, applicationArgs.toArray(String[]::new));
+        try {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            PointLoadTest loadTest = new PointLoadTest(options, URI.create("http://localhost:" + port));
+            loadTest.run();
+            loadTest.report();
+        } finally {
+            SpringApplication.exit(context);
+        }
+    }
+
+    private void run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        UserIdDistribution users = UserIdDistribution.of(options.distribution(), options.users(), options.zipfExponent());
+        PointEndpoint[] weighted = weightedEndpoints();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        double intervalNanos = (double) TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        System.out.printf("부하 시작 - %s%n", options);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmup());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.duration());
+        double scheduled = start;
+        while (scheduled < end) {
+            long intended = (long) scheduled;
+            scheduled += options.arrival().equals("poisson") ? -Math.log(1.0 - random.nextDouble()) * intervalNanos : intervalNanos;
+            waitUntil(intended);
+            // 대기 요청이 가득 차면 보내기를 기다리고, 그 시간은 예정 시각 기준 지연 시간에 포함된다.
+            inFlight.acquire();
+            PointEndpoint endpoint = weighted[random.nextInt(weighted.length)];
+            long userId = users.next(random);
+            long sent = System.nanoTime();
+            client.sendAsync(endpoint.request(baseUri, userId, options.amount()), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        long completed = System.nanoTime();
+                        inFlight.release();
+                        if (intended >= measureFrom) {
+                            stats.get(endpoint).record(intended, sent, completed, response == null ? -1 : response.statusCode());
+                        }
+                    });
+        }
+        // 보낸 요청의 응답을 모두 받을 때까지 대기
+        inFlight.acquire(options.maxInFlight());
+    }
+
+    private void report() throws IOException {
+        Path output = Path.of(options.output());
+        Files.createDirectories(output);
+        System.out.printf("%n%-10s %9s %9s %8s %6s %6s %6s | %-29s | %-29s%n", "endpoint", "count", "req/s", "2xx", "4xx", "5xx", "fail",
+                "corrected p50/p99/p999 (ms)", "uncorrected p50/p99/p999 (ms)");
+        for (Map.Entry<PointEndpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            long count = endpointStats.corrected().getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            System.out.printf("%-10s %9d %9.1f %8d %6d %6d %6d | %-29s | %-29s%n", entry.getKey().label(), count,
+                    (double) count / options.duration(), endpointStats.success(), endpointStats.clientErrors(),
+                    endpointStats.serverErrors(), endpointStats.failures(),
+                    percentiles(endpointStats.corrected()), percentiles(endpointStats.uncorrected()));
+            // HdrHistogram plotter 로 모드별 분포를 비교할 수 있도록 ms 단위로 저장
+            try (PrintStream out = new PrintStream(Files.newOutputStream(output.resolve(entry.getKey().label() + ".hgrm")))) {
+                endpointStats.corrected().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.printf("%n분포 파일: %s%n", output.toAbsolutePath());
+    }
+
+    private PointEndpoint[] weightedEndpoints() {
+        List<PointEndpoint> weighted = new ArrayList<>();
+        options.mix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        return weighted.toArray(PointEndpoint[]::new);
+    }
+
+    private static String percentiles(Histogram histogram) {
+        StringBuilder builder = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            if (!builder.isEmpty()) {
+                builder.append(" / ");
+            }
+            builder.append(String.format("%.2f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        return builder.toString();
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 요청마다 대상 userId(1 ~ users)를 고르는 분포
+ * - uniform: 모든 사용자가 같은 확률
+ * - zipf: 순위 k 인 사용자(userId = k)가 1 / k^exponent 에 비례하는 확률 (상위 소수 사용자에 요청이 몰리는 hot key)
+ */
+abstract class UserIdDistribution {
+
+    abstract long next(SplittableRandom random);
+
+    static UserIdDistribution of(String name, int users, double zipfExponent) {
+        return switch (name) {
+            case "uniform" -> new Uniform(users);
+            case "zipf" -> new Zipf(users, zipfExponent);
+            default -> throw new IllegalArgumentException("알 수 없는 사용자 분포입니다: " + name);
+        };
+    }
+
+    private static final class Uniform extends UserIdDistribution {
+        private final int users;
+
+        private Uniform(int users) {
+            this.users = users;
+        }
+
+        @Override
+        long next(SplittableRandom random) {
+            return random.nextInt(users) + 1L;
+        }
+    }
+
+    // 누적 분포를 미리 계산해 두고 이분 탐색으로 고른다. (사용자 수만큼의 double 배열 사용)
+    private static final class Zipf extends UserIdDistribution {
+        private final double[] cumulative;
+
+        private Zipf(int users, double exponent) {
+            if (exponent <= 0) {
+                throw new IllegalArgumentException("zipf 지수는 0 보다 커야 합니다: " + exponent);
+            }
+            this.cumulative = new double[users];
+            double sum = 0;
+            for (int rank = 1; rank <= users; rank++) {
+                sum += 1.0 / Math.pow(rank, exponent);
+                cumulative[rank - 1] = sum;
+            }
+            for (int i = 0; i < users; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        long next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return (index >= 0 ? index : -index - 1) + 1L;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.admission.RateLimitExceededException;
+import io.hhplus.tdd.point.cluster.MisdirectedRequestException;
+import io.hhplus.tdd.point.cluster.OwnerUnavailableException;
+import io.hhplus.tdd.point.lock.LockTimeoutException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +12,31 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException e) {
+        return ResponseEntity.status(429).header("Retry-After", "1").body(new ErrorResponse("429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(value = {PointOverloadedException.class, LockTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleOverloaded(RuntimeException e) {
+        return ResponseEntity.status(503).header("Retry-After", "1").body(new ErrorResponse("503", "처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(value = OwnerUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleOwnerUnavailable(OwnerUnavailableException e) {
+        return ResponseEntity.status(503).header("Retry-After", "1").body(new ErrorResponse("503", "담당 인스턴스에 요청을 전달하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(value = MisdirectedRequestException.class)
+    public ResponseEntity<ErrorResponse> handleMisdirectedRequest(MisdirectedRequestException e) {
+        return ResponseEntity.status(421).body(new ErrorResponse("421", "이 인스턴스가 담당하지 않는 사용자입니다."));
+    }
+
+    @ExceptionHandler(value = IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
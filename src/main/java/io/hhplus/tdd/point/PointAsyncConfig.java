@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 API 가 사용하는 전용 실행기 설정
+ * - Java 21 이상에서는 가상 스레드(virtual thread)를, Java 17 에서는 크기가 제한된 스레드 풀을 사용합니다.
+ * - 스레드 풀의 큐가 가득 차면 작업을 거절(RejectedExecutionException)하고, PointService 가 503 으로 응답합니다.
+ */
+@Configuration
+public class PointAsyncConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAsyncConfig.class);
+    private static final int VIRTUAL_THREAD_FEATURE_VERSION = 21;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pointAsyncExecutor(@Value("${point.async.pool-size:200}") int poolSize,
+                                              @Value("${point.async.queue-capacity:10000}") int queueCapacity) {
+        if (Runtime.version().feature() >= VIRTUAL_THREAD_FEATURE_VERSION) {
+            try {
+                // 17 로 컴파일되므로 21 의 API 는 리플렉션으로 호출한다.
+                ExecutorService executor = (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+                log.info("포인트 비동기 실행기 - virtual thread");
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                log.warn("virtual thread 실행기를 만들 수 없어 스레드 풀을 사용합니다.", e);
+            }
+        }
+        log.info("포인트 비동기 실행기 - thread pool (size: {}, queue: {})", poolSize, queueCapacity);
+        return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), namedThreadFactory("point-async-"));
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointController 의 비동기 버전
+ * - 처리 결과를 CompletableFuture 로 반환하므로 요청 처리 중에 서블릿 스레드를 점유하지 않습니다.
+ */
+@RestController
+@RequestMapping("/point/async")
+public class PointAsyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAsyncController.class);
+    private final PointService pointService;
+
+    public PointAsyncController(PointService pointService) {
+        this.pointService = pointService;
+    }
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id
+    ) {
+        log.info("ASYNC USER userId: {}", id);
+        return pointService.getUserPointAsync(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(
+            @PathVariable long id
+    ) {
+        log.info("ASYNC HISTORY userId: {}", id);
+        return pointService.getUserPointHistoryAsync(id);
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        log.info("ASYNC CHARGE userId: {}, amount: {}", id, amount);
+        return pointService.chargeUserPointAsync(id, amount);
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        log.info("ASYNC USE userId: {}, amount: {}", id, amount);
+        return pointService.useUserPointAsync(id, amount);
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 요청의 명령별 처리 결과
+ * - 성공하면 userPoint 에 처리 직후의 잔고가, 실패하면 errorMessage 에 실패 사유가 담깁니다.
+ */
+public record PointBatchResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        UserPoint userPoint,
+        String errorMessage
+) {
+
+    public static PointBatchResult success(PointBatchCommand command, UserPoint userPoint) {
+        return new PointBatchResult(command.userId(), command.type(), command.amount(), true, userPoint, null);
+    }
+
+    public static PointBatchResult failure(PointBatchCommand command, String errorMessage) {
+        return new PointBatchResult(command.userId(), command.type(), command.amount(), false, null, errorMessage);
+    }
+}
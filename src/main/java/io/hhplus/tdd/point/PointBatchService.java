@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import io.hhplus.tdd.point.cluster.MisdirectedRequestException;
+import io.hhplus.tdd.point.cluster.PointForwarder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 사용자의 충전/사용 명령을 한 번에 처리하는 일괄 처리 서비스
+ * - 사용자별 명령은 입력 순서대로 하나의 그룹으로 적재되어 한 번의 잔고 조회/저장으로 처리됩니다.
+ * - 서로 다른 사용자의 명령은 병렬로 처리됩니다.
+ * - 여러 인스턴스로 나눠 실행 중이면 다른 인스턴스가 담당하는 사용자의 명령은 인스턴스별로 모아 담당 인스턴스에 전달합니다.
+ */
+@Service
+public class PointBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBatchService.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final PointService pointService;
+    private final ClusterMembership clusterMembership;
+    private final PointForwarder pointForwarder;
+    private final ExecutorService batchExecutor;
+    private final int maxBatchSize;
+
+    public PointBatchService(PointService pointService,
+                             ClusterMembership clusterMembership,
+                             PointForwarder pointForwarder,
+                             @Value("${point.batch.parallelism:16}") int parallelism,
+                             @Value("${point.batch.max-size:10000}") int maxBatchSize) {
+        this.pointService = pointService;
+        this.clusterMembership = clusterMembership;
+        this.pointForwarder = pointForwarder;
+        AtomicInteger sequence = new AtomicInteger();
+        this.batchExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public List<PointBatchResult> execute(List<PointBatchCommand> commands) {
+        return execute(commands, null);
+    }
+
+    /**
+     * 다른 인스턴스가 전달한 일괄 요청을 처리합니다.
+     * - 이 인스턴스가 담당하지 않는 사용자의 명령은 다시 전달하지 않고 실패로 응답합니다.
+     */
+    public List<PointBatchResult> executeForwarded(List<PointBatchCommand> commands, String forwardedBy) {
+        return execute(commands, forwardedBy);
+    }
+
+    private List<PointBatchResult> execute(List<PointBatchCommand> commands, String forwardedBy) {
+        if (commands.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 명령 수(" + maxBatchSize + ")를 초과 했습니다.");
+        }
+
+        // 사용자별로 명령의 입력 위치를 모은다. (사용자 안에서는 입력 순서 유지)
+        // 다른 인스턴스가 담당하는 사용자의 명령은 인스턴스별로 모은다.
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        Map<String, List<Integer>> indexesByOwner = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            PointBatchCommand command = commands.get(i);
+            if (command == null) {
+                throw new IllegalArgumentException("비어 있는 명령이 있습니다. - 위치: " + i);
+            }
+            long userId = command.userId();
+            if (clusterMembership.isLocal(userId)) {
+                indexesByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(i);
+            } else {
+                indexesByOwner.computeIfAbsent(clusterMembership.ownerOf(userId), owner -> new ArrayList<>()).add(i);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<UserPoint>[] results = new CompletableFuture[commands.size()];
+        PointBatchResult[] forwardedResults = new PointBatchResult[commands.size()];
+        List<CompletableFuture<Void>> submissions = new ArrayList<>(indexesByUser.size() + indexesByOwner.size());
+        indexesByOwner.forEach((owner, indexes) -> submissions.add(CompletableFuture.runAsync(
+                () -> forward(owner, indexes, commands, forwardedBy, forwardedResults), batchExecutor)));
+        indexesByUser.forEach((userId, indexes) -> submissions.add(CompletableFuture.runAsync(
+                () -> submit(userId, indexes, commands, results), batchExecutor)));
+        CompletableFuture.allOf(submissions.toArray(CompletableFuture[]::new)).join();
+
+        List<PointBatchResult> batchResults = new ArrayList<>(commands.size());
+        int successCount = 0;
+        for (int i = 0; i < commands.size(); i++) {
+            PointBatchResult result = forwardedResults[i] != null ? forwardedResults[i] : toResult(commands.get(i), results[i]);
+            if (result.success()) {
+                successCount++;
+            }
+            batchResults.add(result);
+        }
+        log.info("포인트 일괄 처리 완료 - 명령 수: {}, 사용자 수: {}, 전달한 인스턴스 수: {}, 성공 수: {}",
+                commands.size(), indexesByUser.size(), indexesByOwner.size(), successCount);
+        return batchResults;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        batchExecutor.shutdown();
+        batchExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // 한 사용자의 명령을 적재하지 못하면 그 사용자의 명령만 실패로 응답한다. (다른 사용자의 결과는 그대로 반환)
+    private void submit(long userId, List<Integer> indexes, List<PointBatchCommand> commands,
+                        CompletableFuture<UserPoint>[] results) {
+        try {
+            List<PointBatchCommand> userCommands = indexes.stream().map(commands::get).toList();
+            List<CompletableFuture<UserPoint>> userResults = pointService.executeBatchAsync(userId, userCommands);
+            for (int i = 0; i < indexes.size(); i++) {
+                results[indexes.get(i)] = userResults.get(i);
+            }
+        } catch (RuntimeException e) {
+            log.error("포인트 일괄 처리 적재 실패 - userId: {}", userId, e);
+            for (int index : indexes) {
+                if (results[index] == null) {
+                    results[index] = CompletableFuture.failedFuture(e);
+                }
+            }
+        }
+    }
+
+    private void forward(String owner, List<Integer> indexes, List<PointBatchCommand> commands, String forwardedBy,
+                         PointBatchResult[] forwardedResults) {
+        List<PointBatchCommand> ownerCommands = indexes.stream().map(commands::get).toList();
+        List<PointBatchResult> ownerResults;
+        if (forwardedBy != null) {
+            // 인스턴스 사이를 계속 오가지 않도록 전달받은 요청은 다시 전달하지 않는다.
+            ownerResults = ownerCommands.stream()
+                    .map(command -> PointBatchResult.failure(command,
+                            new MisdirectedRequestException(command.userId(), forwardedBy).getMessage()))
+                    .toList();
+        } else {
+            try {
+                ownerResults = pointForwarder.forwardBatch(owner, ownerCommands);
+            } catch (RuntimeException e) {
+                ownerResults = ownerCommands.stream().map(command -> PointBatchResult.failure(command, e.getMessage())).toList();
+            }
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            forwardedResults[indexes.get(i)] = ownerResults.get(i);
+        }
+    }
+
+    private PointBatchResult toResult(PointBatchCommand command, CompletableFuture<UserPoint> result) {
+        try {
+            return PointBatchResult.success(command, result.join());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return PointBatchResult.failure(command, cause.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 같은 사용자에게 몰린 충전/사용 명령을 도착 순서대로 모아두는 그룹
+ * - 그룹을 만든 첫 번째 명령(leader)이 그룹 전체의 처리를 요청합니다.
+ * - 명령 추가는 PointService 의 ConcurrentHashMap.compute 안에서만 일어나므로 별도 동기화가 필요 없습니다.
+ */
+class PointCommandGroup {
+
+    private final PendingCommand leader;
+    private final List<PendingCommand> commands = new ArrayList<>();
+
+    PointCommandGroup(PendingCommand leader) {
+        this.leader = leader;
+        this.commands.add(leader);
+    }
+
+    void add(PendingCommand command) {
+        commands.add(command);
+    }
+
+    boolean isLeader(PendingCommand command) {
+        return leader == command;
+    }
+
+    List<PendingCommand> commands() {
+        return commands;
+    }
+
+    record PendingCommand(
+            TransactionType type,
+            long amount,
+            CompletableFuture<UserPoint> result
+    ) {
+    }
+}
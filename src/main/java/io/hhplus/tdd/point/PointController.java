@@ -1,9 +1,17 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.cluster.PointForwarder;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -11,10 +19,18 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, PointBatchService pointBatchService, ObjectMapper objectMapper,
+                           IdempotencyStore idempotencyStore) {
         this.pointService = pointService;
+        this.pointBatchService = pointBatchService;
+        this.objectMapper = objectMapper;
+        this.idempotencyStore = idempotencyStore;
     }
 
     /**
@@ -30,36 +46,127 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * - from(포함), to(제외)를 epoch millis 로 지정하면 그 기간에 처리된 내역만 조회합니다. (하나만 지정하면 나머지는 제한 없음)
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        log.info("HISTORY userId: {}, from: {}, to: {}", id, from, to);
+        if (from == null && to == null) {
+            return pointService.getUserPointHistory(id);
+        }
+        return pointService.getUserPointHistory(id, from != null ? from : Long.MIN_VALUE, to != null ? to : Long.MAX_VALUE);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 cursor(마지막으로 받은 내역 id) 이후부터 size 건씩 조회합니다.
+     */
+    @GetMapping("{id}/histories/page")
+    public PointHistoryPage historyPage(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        log.info("HISTORY PAGE userId: {}, cursor: {}, size: {}", id, cursor, size);
+        return pointService.getUserPointHistoryPage(id, cursor, size);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 전체를 한 줄에 하나씩(NDJSON) 읽는 대로 응답에 씁니다.
+     */
+    @GetMapping("{id}/histories/stream")
+    public ResponseEntity<StreamingResponseBody> historyStream(
             @PathVariable long id
     ) {
-        log.info("HISTORY userId: {}", id);
-        return pointService.getUserPointHistory(id);
+        log.info("HISTORY STREAM userId: {}", id);
+        StreamingResponseBody body = outputStream -> {
+            try {
+                pointService.forEachUserPointHistory(id, pointHistory -> {
+                    try {
+                        // writeValue(OutputStream, ..) 는 스트림을 닫으므로 바이트로 직렬화해서 쓴다.
+                        outputStream.write(objectMapper.writeValueAsBytes(pointHistory));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 특정 유저의 충전/사용 합계를 구간(bucket=hour|day)별로 조회합니다.
+     * - from(포함), to(제외)는 epoch millis 이며, from 이 속한 구간부터 to 이전에 시작하는 구간까지 집계합니다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id,
+            @RequestParam long from,
+            @RequestParam long to,
+            @RequestParam(defaultValue = "day") String bucket
+    ) {
+        log.info("SUMMARY userId: {}, from: {}, to: {}, bucket: {}", id, from, to, bucket);
+        return pointService.getUserPointSummary(id, from, to, bucket);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키로 다시 보낸 요청에는 처음 결과를 그대로 반환합니다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        log.info("CHARGE userId: {}, amount: {}", id, amount);
-        return pointService.chargeUserPoint(id, amount);
+        log.info("CHARGE userId: {}, amount: {}, idempotencyKey: {}", id, amount, idempotencyKey);
+        if (idempotencyKey == null) {
+            return pointService.chargeUserPoint(id, amount);
+        }
+        return idempotencyStore.execute(idempotencyKey, id, TransactionType.CHARGE, amount,
+                () -> pointService.chargeUserPoint(id, amount));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키로 다시 보낸 요청에는 처음 결과를 그대로 반환합니다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        log.info("USE userId: {}, amount: {}, idempotencyKey: {}", id, amount, idempotencyKey);
+        if (idempotencyKey == null) {
+            return pointService.useUserPoint(id, amount);
+        }
+        return idempotencyStore.execute(idempotencyKey, id, TransactionType.USE, amount,
+                () -> pointService.useUserPoint(id, amount));
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한 번에 처리합니다.
+     * - 유저별로는 요청 순서대로, 서로 다른 유저는 병렬로 처리하고 명령별 결과를 요청 순서대로 반환합니다.
+     * - 다른 인스턴스가 전달한 요청(X-Point-Forwarded-By 헤더)은 이 인스턴스가 담당하는 유저의 명령만 처리합니다.
+     */
+    @PostMapping("batch")
+    public List<PointBatchResult> batch(
+            @RequestBody List<PointBatchCommand> commands,
+            @RequestHeader(value = PointForwarder.FORWARDED_HEADER, required = false) String forwardedBy
     ) {
-        log.info("USE userId: {}, amount: {}", id, amount);
-        return pointService.useUserPoint(id, amount);
+        log.info("BATCH size: {}, forwardedBy: {}", commands.size(), forwardedBy);
+        if (forwardedBy == null) {
+            return pointBatchService.execute(commands);
+        }
+        return pointBatchService.executeForwarded(commands, forwardedBy);
     }
 }
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지
+ * - nextCursor 를 다음 요청의 cursor 로 넘기면 이어지는 내역을 조회할 수 있고, 마지막 페이지면 null 입니다.
+ */
+public record PointHistoryPage(
+        List<PointHistory> items,
+        Long nextCursor
+) {
+}
@@ -1,89 +1,379 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.point.PointCommandGroup.PendingCommand;
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.executor.ConcurrentUpdateException;
+import io.hhplus.tdd.point.executor.PointCommandExecutor;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointLedger;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 public class PointService {
 
     private static final Logger log = LoggerFactory.getLogger(PointService.class);
     private static final long MAX_POINT_BALANCE = 1000L; // 최대 잔고 제한 설정
+    private static final int MAX_HISTORY_PAGE_SIZE = 1000; // 내역 페이지 조회 시 최대 건수
+    private static final int HISTORY_STREAM_CHUNK_SIZE = 500; // 내역 스트리밍 시 한 번에 읽는 건수
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
-    private final ConcurrentHashMap<Long, ReentrantLock> userLock = new ConcurrentHashMap();
+    private final PointCommandExecutor pointCommandExecutor; // 사용자별 순차 실행 (point.execution.mode)
+    private final Executor pointAsyncExecutor; // 비동기 API 전용 실행기
+    private final PointLedger pointLedger; // 내역 저장소가 잔고까지 함께 기록하는 경우(event-sourced, wal 모드)에만 존재
+    private final ShardedBalances shardedBalances; // 잔고를 shard 로 나눠 처리하는 사용자 (point.sharded.users)
+    // 사용자별로 아직 처리가 시작되지 않은 명령 그룹 (처리가 시작되면 제거되고, 이후 명령은 새 그룹에 모인다.)
+    private final ConcurrentHashMap<Long, PointCommandGroup> openGroups = new ConcurrentHashMap<>();
 
-    public PointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+    public PointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, PointCommandExecutor pointCommandExecutor,
+                        @Qualifier("pointAsyncExecutor") Executor pointAsyncExecutor, ShardedBalances shardedBalances) {
         this.userPointRepository = userPointRepository;
         this.pointHistoryRepository = pointHistoryRepository;
+        this.pointCommandExecutor = pointCommandExecutor;
+        this.pointAsyncExecutor = pointAsyncExecutor;
+        this.pointLedger = pointHistoryRepository instanceof PointLedger ledger ? ledger : null;
+        this.shardedBalances = shardedBalances;
     }
 
     // 특정 사용자의 포인트 충전 로직 (포인트를 충전한다.)
     public UserPoint chargeUserPoint(long userId, long amount) {
-        ReentrantLock lock = userLock.computeIfAbsent(userId, id -> new ReentrantLock(true)); // 사용자별 Lock 할당
-        lock.lock();
-        try{
-            log.info("포인트 충전 요청 시작 - userId: {}, amount: {}", userId, amount);
-            UserPoint userPoint = userPointRepository.findById(userId);
-
-            if (amount <= 0) {
-                throw new IllegalArgumentException("포인트 충전은 0 보다 커야 합니다.");
-            }
-
-            if (userPoint.point() + amount > MAX_POINT_BALANCE) {
-                throw new IllegalArgumentException("최대 잔고를 초과 했습니다.");
-            }
-
-            UserPoint updateUserPoint = new UserPoint(userPoint.id(), userPoint.point() + amount, System.currentTimeMillis());
-            userPointRepository.save(updateUserPoint);
-            pointHistoryRepository.save(new PointHistory(0,userId, amount, TransactionType.CHARGE, System.currentTimeMillis()));
-            log.info("userHistory : {},",pointHistoryRepository.findByUserId(userId));
-            return updateUserPoint;
-        } finally {
-            lock.unlock();
-        }
+        log.info("포인트 충전 요청 시작 - userId: {}, amount: {}", userId, amount);
+        return join(enqueue(userId, TransactionType.CHARGE, amount));
     }
 
     // 특정 사용자의 포인트 사용 로직 (포인트를 사용한다.)
     // 잔고가 부족할 경우, 포인트 사용은 실패하여야 합니다.
     public UserPoint useUserPoint(long userId, long amount) {
-        ReentrantLock lock = userLock.computeIfAbsent(userId, id -> new ReentrantLock(true)); // 사용자별 Lock 할당
-        lock.lock();
-        try {
-            log.info("포인트 사용 요청 시작 - userId: {}, amount: {}", userId, amount);
-            UserPoint userPoint = userPointRepository.findById(userId);
+        log.info("포인트 사용 요청 시작 - userId: {}, amount: {}", userId, amount);
+        return join(enqueue(userId, TransactionType.USE, amount));
+    }
 
-            if (amount <= 0) {
-                throw new IllegalArgumentException("포인트 사용은 0 보다 커야 합니다.");
-            }
+    // 비동기 충전: 그룹 처리는 전용 실행기에서 진행하고 호출 스레드는 바로 future 를 받는다.
+    public CompletableFuture<UserPoint> chargeUserPointAsync(long userId, long amount) {
+        log.info("포인트 충전 요청 시작 - userId: {}, amount: {}", userId, amount);
+        return supplyAsync(userId, () -> enqueue(userId, TransactionType.CHARGE, amount))
+                .thenCompose(Function.identity());
+    }
 
-            if (userPoint.point() < amount) {
-                throw new IllegalArgumentException("잔액이 부족합니다.");
-            }
+    // 비동기 사용: 그룹 처리는 전용 실행기에서 진행하고 호출 스레드는 바로 future 를 받는다.
+    public CompletableFuture<UserPoint> useUserPointAsync(long userId, long amount) {
+        log.info("포인트 사용 요청 시작 - userId: {}, amount: {}", userId, amount);
+        return supplyAsync(userId, () -> enqueue(userId, TransactionType.USE, amount))
+                .thenCompose(Function.identity());
+    }
 
-            UserPoint updateUserPoint = new UserPoint(userPoint.id(), userPoint.point() - amount, System.currentTimeMillis());
-            userPointRepository.save(updateUserPoint);
-            pointHistoryRepository.save(new PointHistory(0, userId, amount, TransactionType.USE, System.currentTimeMillis()));
-            log.info("userHistory : {},",pointHistoryRepository.findByUserId(userId));
-            return updateUserPoint;
-        } finally {
-            lock.unlock();
+    // 한 사용자의 여러 명령을 순서대로 같은 그룹에 적재한다. (명령별 결과를 입력 순서대로 반환)
+    public List<CompletableFuture<UserPoint>> executeBatchAsync(long userId, List<PointBatchCommand> commands) {
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>(commands.size());
+        List<PendingCommand> pending = new ArrayList<>(commands.size());
+        for (PointBatchCommand command : commands) {
+            try {
+                validate(command.type(), command.amount());
+            } catch (IllegalArgumentException e) {
+                results.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            PendingCommand pendingCommand = new PendingCommand(command.type(), command.amount(), new CompletableFuture<>());
+            pending.add(pendingCommand);
+            results.add(pendingCommand.result());
+        }
+        if (!pending.isEmpty()) {
+            enqueue(userId, pending);
         }
+        return results;
     }
 
     // 특정 사용자의 포인트 조회 로직
     public UserPoint getUserPoint(long userId) {
+        if (shardedBalances.contains(userId)) {
+            return shardedBalance(userId).current();
+        }
         return userPointRepository.findById(userId);
     }
 
     // 특정 사용자의 포인트 내역 조회(포인트 내역을 조회한다.)
     public List<PointHistory> getUserPointHistory(long userId) {
+        pointHistoryRepository.flush(userId); // 아직 저장 대기 중인 내역까지 포함해서 조회
         return pointHistoryRepository.findByUserId(userId);
     }
+
+    // 특정 사용자의 포인트 내역 중 updateMillis 가 from 이상 to 미만인 내역만 조회 (기간 밖의 내역은 읽지 않는다.)
+    public List<PointHistory> getUserPointHistory(long userId, long from, long to) {
+        if (from >= to) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 빨라야 합니다.");
+        }
+        pointHistoryRepository.flush(userId);
+        return pointHistoryRepository.findByUserIdBetween(userId, from, to);
+    }
+
+    // 특정 사용자의 포인트 내역을 cursor(내역 id) 이후부터 size 건 조회
+    public PointHistoryPage getUserPointHistoryPage(long userId, long cursor, int size) {
+        if (size <= 0 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        pointHistoryRepository.flush(userId);
+        // 한 건 더 읽어서 다음 페이지가 있는지 확인
+        List<PointHistory> items = pointHistoryRepository.findByUserIdAfter(userId, cursor, size + 1);
+        if (items.size() <= size) {
+            return new PointHistoryPage(items, null);
+        }
+        List<PointHistory> page = items.subList(0, size);
+        return new PointHistoryPage(page, page.get(size - 1).id());
+    }
+
+    // 특정 사용자의 포인트 내역 전체를 일정 건수씩 나눠 읽으면서 순서대로 전달 (내역 전체를 한 번에 메모리에 올리지 않는다.)
+    public void forEachUserPointHistory(long userId, Consumer<PointHistory> action) {
+        pointHistoryRepository.flush(userId);
+        long cursor = 0L;
+        List<PointHistory> chunk;
+        do {
+            chunk = pointHistoryRepository.findByUserIdAfter(userId, cursor, HISTORY_STREAM_CHUNK_SIZE);
+            for (PointHistory pointHistory : chunk) {
+                action.accept(pointHistory);
+            }
+            if (!chunk.isEmpty()) {
+                cursor = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == HISTORY_STREAM_CHUNK_SIZE);
+    }
+
+    // 특정 사용자의 구간별 충전/사용 합계 조회 (내역을 훑지 않고 저장할 때 미리 집계한 구간 합계를 읽는다.)
+    public PointSummary getUserPointSummary(long userId, long from, long to, String bucket) {
+        PointSummaryInterval interval = PointSummaryInterval.from(bucket);
+        if (from < 0 || from >= to) {
+            throw new IllegalArgumentException("조회 시작 시각은 0 이상이고 종료 시각보다 빨라야 합니다.");
+        }
+        pointHistoryRepository.flush(userId);
+        return PointSummary.of(userId, interval, pointHistoryRepository.summarize(userId, interval, from, to));
+    }
+
+    public CompletableFuture<UserPoint> getUserPointAsync(long userId) {
+        return supplyAsync(userId, () -> getUserPoint(userId));
+    }
+
+    public CompletableFuture<List<PointHistory>> getUserPointHistoryAsync(long userId) {
+        return supplyAsync(userId, () -> getUserPointHistory(userId));
+    }
+
+    // 비동기 실행기가 가득 차서 작업을 받지 못하면 500 이 아니라 503 으로 응답하도록 PointOverloadedException 으로 바꾼다.
+    private <T> CompletableFuture<T> supplyAsync(long userId, Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, pointAsyncExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new PointOverloadedException(userId));
+        }
+    }
+
+    private CompletableFuture<UserPoint> enqueue(long userId, TransactionType type, long amount) {
+        try {
+            validate(type, amount);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        PendingCommand command = new PendingCommand(type, amount, new CompletableFuture<>());
+        enqueue(userId, List.of(command));
+        return command.result();
+    }
+
+    // 같은 사용자의 명령은 하나의 그룹으로 모으고, 그룹을 만든 명령만 실행기에 그룹 처리를 요청한다.
+    private void enqueue(long userId, List<PendingCommand> commands) {
+        if (shardedBalances.contains(userId)) {
+            for (PendingCommand command : commands) {
+                executeSharded(userId, command);
+            }
+            return;
+        }
+        PendingCommand first = commands.get(0);
+        PointCommandGroup group = openGroups.compute(userId, (id, open) -> {
+            PointCommandGroup target = open == null ? new PointCommandGroup(first) : open;
+            for (PendingCommand command : commands) {
+                if (!target.isLeader(command)) {
+                    target.add(command);
+                }
+            }
+            return target;
+        });
+        if (group.isLeader(first)) {
+            pointCommandExecutor.submit(userId, () -> commit(userId, group))
+                    .whenComplete((ignored, e) -> {
+                        if (e != null) {
+                            fail(close(userId, group), e);
+                        }
+                    });
+        }
+    }
+
+    // 그룹으로 모으지 않고 shard 하나에서 바로 처리한다. (합계는 비동기로 저장소에 기록)
+    // 내역 저장소가 잔고까지 기록하는 경우(wal 모드)에는 내역과 변경이 포함된 합계가 모두 기록된 뒤에 완료한다.
+    private void executeSharded(long userId, PendingCommand command) {
+        try {
+            ShardedBalance balance = shardedBalance(userId);
+            UserPoint userPoint = command.type() == TransactionType.CHARGE ? balance.charge(command.amount()) : balance.use(command.amount());
+            CompletableFuture<PointHistory> history = balance.recordHistory(command.type(), command.amount(), pointHistoryRepository::saveAsync);
+            CompletableFuture<Void> written = balance.writeBack(pointAsyncExecutor, userPointRepository::save);
+            if (pointLedger == null) {
+                // 응답은 저장을 기다리지 않지만 합계를 저장하지 못하면 남긴다.
+                written.whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.error("shard 잔고 저장 실패 - userId: {}", userId, e);
+                        shardedBalances.writeBackFailed();
+                    }
+                });
+                command.result().complete(userPoint);
+                return;
+            }
+            CompletableFuture.allOf(history, written).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    log.error("shard 잔고 기록 실패 - userId: {}", userId, e);
+                    shardedBalances.writeBackFailed();
+                    fail(List.of(command), e);
+                    return;
+                }
+                command.result().complete(userPoint);
+            });
+        } catch (RuntimeException e) {
+            command.result().completeExceptionally(e);
+        }
+    }
+
+    private ShardedBalance shardedBalance(long userId) {
+        return shardedBalances.get(userId, userPointRepository::findById, MAX_POINT_BALANCE);
+    }
+
+    private void validate(TransactionType type, long amount) {
+        if (type == null) {
+            throw new IllegalArgumentException("거래 유형이 없습니다.");
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException(type == TransactionType.CHARGE ? "포인트 충전은 0 보다 커야 합니다." : "포인트 사용은 0 보다 커야 합니다.");
+        }
+    }
+
+    // 그룹의 명령을 도착 순서대로 한 번 조회한 잔고에 적용하고, 최종 잔고와 내역을 한 번에 저장한다.
+    // 낙관적 실행에서는 저장이 충돌하면 실행기가 그룹 전체를 다시 실행하므로, 명령 결과는 저장이 끝난 뒤에 완료한다.
+    // 저장소가 디스크 반영(WAL fsync)을 기다려야 하면 반영된 뒤에 완료하며, 기다리는 동안 사용자 Lock 은 풀려 다음 그룹이 처리된다.
+    private Void commit(long userId, PointCommandGroup group) {
+        List<PendingCommand> commands = close(userId, group);
+        List<PendingCommand> accepted = new ArrayList<>(commands.size());
+        List<UserPoint> results = new ArrayList<>(commands.size());
+        List<PointHistory> histories = new ArrayList<>(commands.size());
+        List<PendingCommand> rejected = new ArrayList<>();
+        List<IllegalArgumentException> rejections = new ArrayList<>();
+        CompletableFuture<Void> durable = CompletableFuture.completedFuture(null);
+        try {
+            UserPoint current = userPointRepository.findById(userId);
+            UserPoint userPoint = current;
+            for (PendingCommand command : commands) {
+                try {
+                    userPoint = apply(userPoint, command);
+                } catch (IllegalArgumentException e) {
+                    rejected.add(command); // 정책 위반은 해당 명령만 실패
+                    rejections.add(e);
+                    continue;
+                }
+                accepted.add(command);
+                results.add(userPoint);
+                histories.add(new PointHistory(0, userId, command.amount(), command.type(), userPoint.updateMillis()));
+            }
+
+            if (!accepted.isEmpty()) {
+                durable = record(current, userPoint, histories);
+                log.info("포인트 그룹 처리 완료 - userId: {}, 명령 수: {}, 반영 수: {}, 잔고: {}", userId, commands.size(), accepted.size(), userPoint.point());
+            }
+        } catch (ConcurrentUpdateException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            fail(commands, e);
+            return null;
+        }
+        for (int i = 0; i < rejected.size(); i++) {
+            rejected.get(i).result().completeExceptionally(rejections.get(i));
+        }
+        durable.whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.error("포인트 그룹 기록 실패 - userId: {}", userId, e);
+                fail(accepted, e);
+                return;
+            }
+            for (int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).result().complete(results.get(i));
+            }
+        });
+        return null;
+    }
+
+    // 저장소에 반영되면 완료되는 future 를 반환한다.
+    private CompletableFuture<Void> record(UserPoint current, UserPoint updated, List<PointHistory> histories) {
+        if (pointLedger != null) {
+            // 내역 추가 한 번으로 잔고까지 기록한다. (잔고가 바뀌었으면 ConcurrentUpdateException)
+            return pointLedger.append(updated.id(), current.point(), histories);
+        }
+        saveBalance(current, updated);
+        // 메모리 저장 방식의 내역은 비동기로 저장되므로 잔고가 저장되는 즉시 다음 명령을 처리한다.
+        pointHistoryRepository.saveAllAsync(histories);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void saveBalance(UserPoint current, UserPoint updated) {
+        if (!pointCommandExecutor.requiresCompareAndSave()) {
+            userPointRepository.save(updated);
+            return;
+        }
+        if (!userPointRepository.compareAndSave(current, updated)) {
+            throw new ConcurrentUpdateException(updated.id());
+        }
+    }
+
+    private UserPoint apply(UserPoint userPoint, PendingCommand command) {
+        long amount = command.amount();
+        if (command.type() == TransactionType.CHARGE) {
+            if (userPoint.point() + amount > MAX_POINT_BALANCE) {
+                throw new IllegalArgumentException("최대 잔고를 초과 했습니다.");
+            }
+            return new UserPoint(userPoint.id(), userPoint.point() + amount, System.currentTimeMillis());
+        }
+        if (userPoint.point() < amount) {
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        }
+        return new UserPoint(userPoint.id(), userPoint.point() - amount, System.currentTimeMillis());
+    }
+
+    // 그룹을 닫아 이후 명령이 새 그룹으로 모이게 하고, 지금까지 모인 명령을 반환한다.
+    private List<PendingCommand> close(long userId, PointCommandGroup group) {
+        openGroups.remove(userId, group);
+        return group.commands();
+    }
+
+    private void fail(List<PendingCommand> commands, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        for (PendingCommand command : commands) {
+            command.result().completeExceptionally(cause);
+        }
+    }
+
+    // 결과를 기다린다. (실패 시 원래 예외를 그대로 던진다.)
+    private UserPoint join(CompletableFuture<UserPoint> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 특정 유저의 기간별 충전/사용 집계
+ * - buckets 는 내역이 있는 구간만 시작 시각 순서대로 담고, chargeAmount/useAmount 는 전체 구간의 합계입니다.
+ */
+public record PointSummary(
+        long userId,
+        PointSummaryInterval interval,
+        List<PointSummaryBucket> buckets,
+        long chargeAmount,
+        long useAmount
+) {
+
+    public static PointSummary of(long userId, PointSummaryInterval interval, List<PointSummaryBucket> buckets) {
+        long chargeAmount = 0L;
+        long useAmount = 0L;
+        for (PointSummaryBucket bucket : buckets) {
+            chargeAmount += bucket.chargeAmount();
+            useAmount += bucket.useAmount();
+        }
+        return new PointSummary(userId, interval, buckets, chargeAmount, useAmount);
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 한 구간(startMillis 부터 시작하는 시간/일)의 충전/사용 합계와 건수
+ */
+public record PointSummaryBucket(
+        long startMillis,
+        long chargeAmount,
+        long chargeCount,
+        long useAmount,
+        long useCount
+) {
+}
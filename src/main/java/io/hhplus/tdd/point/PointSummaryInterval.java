@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 집계 구간 단위
+ * - HOUR : 시간 단위 (정각부터)
+ * - DAY : 일 단위 (서버 시간대의 자정부터)
+ */
+public enum PointSummaryInterval {
+    HOUR, DAY;
+
+    public static PointSummaryInterval from(String bucket) {
+        return switch (bucket) {
+            case "hour" -> HOUR;
+            case "day" -> DAY;
+            default -> throw new IllegalArgumentException("집계 단위는 hour 또는 day 이어야 합니다: " + bucket);
+        };
+    }
+}
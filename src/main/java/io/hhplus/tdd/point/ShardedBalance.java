@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 요청이 몰리는 사용자(공용 지갑 등)의 잔고를 여러 shard 로 나눠 보관합니다.
+ * - 충전/사용은 임의의 shard 하나의 Lock 만 잡고 처리하므로 같은 사용자에 대한 요청이 병렬로 처리됩니다.
+ * - shard 마다 최대 잔고를 나눈 한도(limit)를 갖고 0 <= 잔고 <= 한도 를 지키므로, 합계도 0 이상 최대 잔고 이하가 정확히 유지됩니다.
+ * - shard 하나로 처리할 수 없으면 모든 shard 의 Lock 을 순서대로 잡고 합계로 판단한 뒤, 잔고와 한도를 고르게 다시 나눕니다.
+ * - 내역 저장 요청은 사용자 단위로 한 번에 하나씩, updateMillis 가 줄어들지 않는 순서로 보냅니다.
+ */
+class ShardedBalance {
+
+    private final long userId;
+    private final long maxBalance;
+    private final Shard[] shards;
+    private volatile int rebalanceVersion; // 재분배 중이면 홀수 (조회는 짝수이고 바뀌지 않았을 때의 합계만 사용)
+    private volatile long updateMillis;
+    private final Object writeLock = new Object();
+    private CompletableFuture<Void> pendingWrite; // 다음 기록(지금까지의 변경을 모두 포함)이 끝나면 완료, 기록할 변경이 없으면 null
+    private boolean writing; // 기록 작업이 실행 중인지
+    private final ReentrantLock historyLock = new ReentrantLock();
+    private long lastHistoryMillis; // historyLock 안에서만 사용
+
+    ShardedBalance(UserPoint initial, long maxBalance, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard 수는 0 보다 커야 합니다.");
+        }
+        this.userId = initial.id();
+        this.maxBalance = maxBalance;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        this.updateMillis = initial.updateMillis();
+        distribute(initial.point());
+    }
+
+    UserPoint charge(long amount) {
+        Shard shard = shards[ThreadLocalRandom.current().nextInt(shards.length)];
+        shard.lock.lock();
+        try {
+            if (shard.balance + amount <= shard.limit) {
+                shard.balance += amount;
+                updateMillis = System.currentTimeMillis();
+                return current();
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+        return rebalance(TransactionType.CHARGE, amount);
+    }
+
+    UserPoint use(long amount) {
+        Shard shard = shards[ThreadLocalRandom.current().nextInt(shards.length)];
+        shard.lock.lock();
+        try {
+            if (shard.balance >= amount) {
+                shard.balance -= amount;
+                updateMillis = System.currentTimeMillis();
+                return current();
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+        return rebalance(TransactionType.USE, amount);
+    }
+
+    // shard 잔고의 합계 (재분배 도중의 값은 읽지 않는다.)
+    UserPoint current() {
+        while (true) {
+            int version = rebalanceVersion;
+            if ((version & 1) == 0) {
+                long total = 0;
+                for (Shard shard : shards) {
+                    total += shard.balance;
+                }
+                if (rebalanceVersion == version) {
+                    return new UserPoint(userId, total, updateMillis);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 변경된 합계를 저장소에 기록하고, 호출 전까지의 변경이 포함된 기록이 끝나면 완료되는 future 를 반환합니다.
+     * - 기록은 한 번에 하나씩 일어나며, 기록 중에 들어온 변경은 모아서 이어서 한 번 더 기록합니다.
+     */
+    CompletableFuture<Void> writeBack(Executor executor, Consumer<UserPoint> writer) {
+        CompletableFuture<Void> written;
+        synchronized (writeLock) {
+            if (pendingWrite == null) {
+                pendingWrite = new CompletableFuture<>();
+            }
+            written = pendingWrite;
+            if (writing) {
+                return written;
+            }
+            writing = true;
+        }
+        try {
+            executor.execute(() -> drain(writer));
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                writing = false;
+                pendingWrite = null;
+            }
+            written.completeExceptionally(e);
+        }
+        return written;
+    }
+
+    // 같은 사용자의 내역 저장 요청을 한 번에 하나씩 보낸다. (shard 처리 순서와 관계없이 updateMillis 가 줄어들지 않는다.)
+    <T> T recordHistory(TransactionType type, long amount, Function<PointHistory, T> saver) {
+        historyLock.lock();
+        try {
+            lastHistoryMillis = Math.max(lastHistoryMillis, System.currentTimeMillis());
+            return saver.apply(new PointHistory(0, userId, amount, type, lastHistoryMillis));
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    private void drain(Consumer<UserPoint> writer) {
+        while (true) {
+            CompletableFuture<Void> written;
+            synchronized (writeLock) {
+                written = pendingWrite;
+                if (written == null) {
+                    writing = false;
+                    return;
+                }
+                pendingWrite = null;
+            }
+            // pendingWrite 를 가져온 뒤에 합계를 읽으므로, 이 future 를 받은 호출의 변경은 모두 포함된다.
+            try {
+                writer.accept(current());
+                written.complete(null);
+            } catch (RuntimeException e) {
+                written.completeExceptionally(e);
+            }
+        }
+    }
+
+    private UserPoint rebalance(TransactionType type, long amount) {
+        for (Shard shard : shards) {
+            shard.lock.lock();
+        }
+        rebalanceVersion++;
+        try {
+            long total = 0;
+            for (Shard shard : shards) {
+                total += shard.balance;
+            }
+            if (type == TransactionType.CHARGE) {
+                if (total + amount > maxBalance) {
+                    throw new IllegalArgumentException("최대 잔고를 초과 했습니다.");
+                }
+                total += amount;
+            } else {
+                if (total < amount) {
+                    throw new IllegalArgumentException("잔액이 부족합니다.");
+                }
+                total -= amount;
+            }
+            distribute(total);
+            updateMillis = System.currentTimeMillis();
+            return new UserPoint(userId, total, updateMillis);
+        } finally {
+            rebalanceVersion++;
+            for (int i = shards.length - 1; i >= 0; i--) {
+                shards[i].lock.unlock();
+            }
+        }
+    }
+
+    // total <= maxBalance 이므로 고르게 나누면 shard 마다 잔고 <= 한도 가 성립한다.
+    private void distribute(long total) {
+        int count = shards.length;
+        for (int i = 0; i < count; i++) {
+            shards[i].balance = total / count + (i < total % count ? 1 : 0);
+            shards[i].limit = maxBalance / count + (i < maxBalance % count ? 1 : 0);
+        }
+    }
+
+    private static class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long balance; // lock 안에서만 변경
+        private long limit;
+    }
+}
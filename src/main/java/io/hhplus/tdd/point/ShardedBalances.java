@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * point.sharded.users 에 지정한 사용자의 잔고를 shard 로 나눠 보관합니다. (ShardedBalance)
+ * - 처음 접근할 때 저장소의 잔고로 초기화하고, 이후에는 shard 합계가 해당 사용자의 잔고입니다.
+ */
+@Component
+public class ShardedBalances {
+
+    private final Set<Long> userIds;
+    private final int shardCount;
+    private final ConcurrentHashMap<Long, ShardedBalance> balances = new ConcurrentHashMap<>();
+    private final Counter writeBackFailureCounter;
+
+    public ShardedBalances(@Value("${point.sharded.users:}") List<Long> userIds,
+                           @Value("${point.sharded.shards:16}") int shardCount,
+                           MeterRegistry meterRegistry) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard 수는 0 보다 커야 합니다.");
+        }
+        this.userIds = Set.copyOf(userIds);
+        this.shardCount = shardCount;
+        this.writeBackFailureCounter = Counter.builder("point.sharded.write_back.failures")
+                .description("shard 합계나 내역을 저장소에 기록하지 못한 횟수")
+                .register(meterRegistry);
+    }
+
+    public boolean contains(long userId) {
+        return userIds.contains(userId);
+    }
+
+    ShardedBalance get(long userId, LongFunction<UserPoint> loader, long maxBalance) {
+        return balances.computeIfAbsent(userId, id -> new ShardedBalance(loader.apply(id), maxBalance, shardCount));
+    }
+
+    void writeBackFailed() {
+        writeBackFailureCounter.increment();
+    }
+}
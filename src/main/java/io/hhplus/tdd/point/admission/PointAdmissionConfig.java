@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.admission;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 충전/사용 API(동기, 비동기)에 사용자별 요청 제한을 적용합니다.
+ * - 여러 사용자의 명령을 담는 일괄 요청은 point.batch.max-size 로 제한합니다.
+ */
+@Configuration
+public class PointAdmissionConfig implements WebMvcConfigurer {
+
+    private final PointAdmissionInterceptor pointAdmissionInterceptor;
+
+    public PointAdmissionConfig(PointAdmissionInterceptor pointAdmissionInterceptor) {
+        this.pointAdmissionInterceptor = pointAdmissionInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(pointAdmissionInterceptor)
+                .addPathPatterns("/point/{id}/charge", "/point/{id}/use", "/point/async/{id}/charge", "/point/async/{id}/use");
+    }
+}
@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 요청 허용 여부를 결정합니다.
+ * - token bucket: 사용자별로 초당 rate-per-second 개씩, 최대 burst 개까지 쌓이는 토큰을 요청마다 하나씩 사용합니다. (부족하면 429)
+ * - 처리 중인 요청 수: 한 사용자의 요청이 max-in-flight 개 처리 중이면 새 요청을 받지 않습니다. (503)
+ * - 처리 중인 요청이 없고 토큰이 가득 찬 사용자의 상태는 새 사용자와 같으므로 정리 대상입니다.
+ * - 정리는 전체 사용자를 훑으므로 추적 중인 사용자가 많아도 주기마다 한 호출만 합니다.
+ */
+@Component
+public class PointAdmissionControl {
+
+    private static final int MAX_TRACKED_USERS = 100_000; // 넘으면 정리 대상 상태를 제거
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final int maxInFlight;
+    private final int maxTrackedUsers;
+    private final long sweepIntervalNanos;
+    private final ConcurrentHashMap<Long, UserAdmission> users = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweptAt;
+    private final Counter rateLimitedCounter;
+    private final Counter overloadedCounter;
+
+    public PointAdmissionControl(@Value("${point.admission.rate-per-second:100}") double ratePerSecond,
+                                 @Value("${point.admission.burst:200}") int burst,
+                                 @Value("${point.admission.max-in-flight:64}") int maxInFlight,
+                                 MeterRegistry meterRegistry) {
+        this(ratePerSecond, burst, maxInFlight, MAX_TRACKED_USERS, SWEEP_INTERVAL_NANOS, meterRegistry);
+    }
+
+    PointAdmissionControl(double ratePerSecond, int burst, int maxInFlight, int maxTrackedUsers, long sweepIntervalNanos,
+                          MeterRegistry meterRegistry) {
+        if (ratePerSecond <= 0 || burst <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("초당 허용 요청 수, burst, 최대 처리 중 요청 수는 0 보다 커야 합니다.");
+        }
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.maxInFlight = maxInFlight;
+        this.maxTrackedUsers = maxTrackedUsers;
+        this.sweepIntervalNanos = sweepIntervalNanos;
+        this.lastSweptAt = new AtomicLong(System.nanoTime() - sweepIntervalNanos); // 처음에는 바로 정리할 수 있다.
+        this.rateLimitedCounter = rejectedCounter("rate_limited", meterRegistry);
+        this.overloadedCounter = rejectedCounter("overloaded", meterRegistry);
+    }
+
+    // 허용되면 처리 중인 요청으로 기록한다. (처리가 끝나면 반드시 release 호출)
+    public void acquire(long userId) {
+        long now = System.nanoTime();
+        if (users.size() >= maxTrackedUsers) {
+            evictIdleIfDue(now);
+        }
+        Rejection[] rejection = new Rejection[1];
+        users.compute(userId, (id, admission) -> {
+            UserAdmission target = admission == null ? new UserAdmission(burst, now) : admission;
+            target.refill(now, tokensPerNano, burst);
+            if (target.inFlight >= maxInFlight) {
+                rejection[0] = Rejection.OVERLOADED;
+            } else if (target.tokens < 1) {
+                rejection[0] = Rejection.RATE_LIMITED;
+            } else {
+                target.tokens--;
+                target.inFlight++;
+            }
+            return target;
+        });
+        if (rejection[0] == Rejection.OVERLOADED) {
+            overloadedCounter.increment();
+            throw new PointOverloadedException(userId);
+        }
+        if (rejection[0] == Rejection.RATE_LIMITED) {
+            rateLimitedCounter.increment();
+            throw new RateLimitExceededException(userId);
+        }
+    }
+
+    public void release(long userId) {
+        users.computeIfPresent(userId, (id, admission) -> {
+            admission.inFlight--;
+            return admission;
+        });
+    }
+
+    public int inFlight(long userId) {
+        UserAdmission admission = users.get(userId);
+        return admission == null ? 0 : admission.inFlight;
+    }
+
+    int trackedUsers() {
+        return users.size();
+    }
+
+    // 주기가 지났을 때 lastSweptAt 을 먼저 바꾼 호출만 정리하고 나머지는 기다리지 않고 진행한다.
+    private void evictIdleIfDue(long now) {
+        long lastSwept = lastSweptAt.get();
+        if (now - lastSwept < sweepIntervalNanos || !lastSweptAt.compareAndSet(lastSwept, now)) {
+            return;
+        }
+        evictIdle(now);
+    }
+
+    private void evictIdle(long now) {
+        for (Long userId : users.keySet()) {
+            users.computeIfPresent(userId, (id, admission) -> admission.isIdle(now, tokensPerNano, burst) ? null : admission);
+        }
+    }
+
+    private static Counter rejectedCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("point.admission.rejected")
+                .description("사용자별 요청 제한으로 거절한 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private enum Rejection {
+        RATE_LIMITED, OVERLOADED
+    }
+
+    // users.compute 안에서만 변경된다.
+    private static class UserAdmission {
+        private double tokens;
+        private long refilledAt;
+        private int inFlight;
+
+        private UserAdmission(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private void refill(long now, double tokensPerNano, double burst) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+
+        private boolean isIdle(long now, double tokensPerNano, double burst) {
+            return inFlight == 0 && tokens + (now - refilledAt) * tokensPerNano >= burst;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.point.ShardedBalances;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 충전/사용 요청을 컨트롤러에 넘기기 전에 사용자별 허용 여부를 확인하고, 응답이 끝나면 처리 중인 요청에서 제외합니다.
+ * - 비동기 요청은 결과를 쓰기 위한 재dispatch 에서 다시 확인하지 않고, 최종 응답이 끝날 때 한 번만 제외합니다.
+ * - 잔고를 shard 로 나눠 처리하는 사용자(point.sharded.users)는 요청이 몰리는 것을 전제로 하므로 제한하지 않습니다.
+ */
+@Component
+public class PointAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED_USER_ATTRIBUTE = PointAdmissionInterceptor.class.getName() + ".userId";
+
+    private final PointAdmissionControl pointAdmissionControl;
+    private final ShardedBalances shardedBalances;
+
+    public PointAdmissionInterceptor(PointAdmissionControl pointAdmissionControl, ShardedBalances shardedBalances) {
+        this.pointAdmissionControl = pointAdmissionControl;
+        this.shardedBalances = shardedBalances;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !variables.containsKey("id")) {
+            return true;
+        }
+        long userId;
+        try {
+            userId = Long.parseLong(variables.get("id"));
+        } catch (NumberFormatException e) {
+            return true; // 컨트롤러의 타입 변환 오류로 처리
+        }
+        if (shardedBalances.contains(userId)) {
+            return true;
+        }
+        pointAdmissionControl.acquire(userId);
+        request.setAttribute(ADMITTED_USER_ATTRIBUTE, userId);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object userId = request.getAttribute(ADMITTED_USER_ATTRIBUTE);
+        if (userId != null) {
+            request.removeAttribute(ADMITTED_USER_ATTRIBUTE);
+            pointAdmissionControl.release((Long) userId);
+        }
+    }
+}
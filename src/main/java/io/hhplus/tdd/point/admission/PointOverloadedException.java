@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.admission;
+
+/**
+ * 사용자의 처리 중인 요청 수가 최대치에 도달했거나 비동기 실행기가 가득 차서 요청을 받지 못할 때 발생합니다. (HTTP 503)
+ */
+public class PointOverloadedException extends RuntimeException {
+
+    public PointOverloadedException(long userId) {
+        super("처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요. - userId: " + userId, null, false, false);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.admission;
+
+/**
+ * 사용자의 초당 허용 요청 수를 넘었을 때 발생합니다. (HTTP 429)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(long userId) {
+        super("요청이 너무 많습니다. 잠시 후 다시 시도해주세요. - userId: " + userId, null, false, false);
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.cluster;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 사용자별 포인트 API(조회, 내역, 충전, 사용 - 동기/비동기)를 담당 인스턴스로 전달하는 대상으로 등록합니다.
+ * - 요청 제한, hot key 집계는 담당 인스턴스에서 한 번만 일어나도록 다른 interceptor 보다 먼저 실행합니다.
+ */
+@Configuration
+public class ClusterConfig implements WebMvcConfigurer {
+
+    private final ClusterRoutingInterceptor clusterRoutingInterceptor;
+
+    public ClusterConfig(ClusterRoutingInterceptor clusterRoutingInterceptor) {
+        this.clusterRoutingInterceptor = clusterRoutingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(clusterRoutingInterceptor)
+                .addPathPatterns("/point/{id}", "/point/{id}/**", "/point/async/{id}", "/point/async/{id}/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 정적 멤버 목록으로 사용자를 담당하는 인스턴스(owner)를 정합니다.
+ * - 모든 인스턴스는 같은 point.cluster.nodes 목록을 갖고, 자신의 주소만 point.cluster.self 로 다르게 지정합니다.
+ * - userId 의 해시를 인스턴스 수로 나눈 나머지로 owner 를 정하므로, 한 사용자의 요청은 항상 같은 인스턴스에서 처리됩니다.
+ * - 목록이 비어 있으면 단일 인스턴스로 동작합니다. (모든 사용자를 직접 처리)
+ */
+@Component
+public class ClusterMembership {
+
+    private final List<String> nodes;
+    private final String self;
+
+    public ClusterMembership(@Value("${point.cluster.nodes:}") List<String> nodes,
+                             @Value("${point.cluster.self:}") String self) {
+        this.nodes = nodes.stream().map(ClusterMembership::normalize).filter(node -> !node.isEmpty()).toList();
+        this.self = normalize(self);
+        if (!this.nodes.isEmpty() && !this.nodes.contains(this.self)) {
+            throw new IllegalArgumentException("point.cluster.self(" + self + ") 가 point.cluster.nodes 에 없습니다.");
+        }
+    }
+
+    public boolean enabled() {
+        return nodes.size() > 1;
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public String ownerOf(long userId) {
+        if (nodes.isEmpty()) {
+            return self;
+        }
+        return nodes.get(Math.floorMod(hash(userId), nodes.size()));
+    }
+
+    public boolean isLocal(long userId) {
+        return !enabled() || ownerOf(userId).equals(self);
+    }
+
+    // 연속된 userId 도 인스턴스에 고르게 나뉘도록 섞는다. (murmur3 fmix64)
+    private static int hash(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
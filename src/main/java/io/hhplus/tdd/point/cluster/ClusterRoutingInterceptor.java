@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.cluster;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 이 인스턴스가 담당하지 않는 사용자의 포인트 API 요청을 컨트롤러에 넘기지 않고 담당 인스턴스로 전달합니다.
+ * - 다른 인스턴스가 전달한 요청은 담당하지 않는 사용자여도 다시 전달하지 않고 421 로 응답합니다.
+ */
+@Component
+public class ClusterRoutingInterceptor implements HandlerInterceptor {
+
+    private final ClusterMembership clusterMembership;
+    private final PointForwarder pointForwarder;
+
+    public ClusterRoutingInterceptor(ClusterMembership clusterMembership, PointForwarder pointForwarder) {
+        this.clusterMembership = clusterMembership;
+        this.pointForwarder = pointForwarder;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!clusterMembership.enabled() || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !variables.containsKey("id")) {
+            return true;
+        }
+        long userId;
+        try {
+            userId = Long.parseLong(variables.get("id"));
+        } catch (NumberFormatException e) {
+            return true; // 컨트롤러의 타입 변환 오류로 처리
+        }
+        if (clusterMembership.isLocal(userId)) {
+            return true;
+        }
+        String forwardedBy = request.getHeader(PointForwarder.FORWARDED_HEADER);
+        if (forwardedBy != null) {
+            throw new MisdirectedRequestException(userId, forwardedBy);
+        }
+        pointForwarder.forward(clusterMembership.ownerOf(userId), request, response);
+        return false;
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.cluster;
+
+/**
+ * 다른 인스턴스가 전달한 요청의 사용자를 이 인스턴스가 담당하지 않을 때 발생합니다. (HTTP 421)
+ * - 인스턴스마다 멤버 목록이 다르게 설정된 경우이며, 요청이 인스턴스 사이를 계속 오가지 않도록 다시 전달하지 않습니다.
+ */
+public class MisdirectedRequestException extends RuntimeException {
+
+    public MisdirectedRequestException(long userId, String forwardedBy) {
+        super("이 인스턴스가 담당하지 않는 사용자입니다. - userId: " + userId + ", forwardedBy: " + forwardedBy, null, false, false);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.cluster;
+
+/**
+ * 사용자를 담당하는 인스턴스에 요청을 전달하지 못했을 때 발생합니다. (HTTP 503)
+ */
+public class OwnerUnavailableException extends RuntimeException {
+
+    public OwnerUnavailableException(String owner, Throwable cause) {
+        super("담당 인스턴스에 요청을 전달하지 못했습니다. 잠시 후 다시 시도해주세요. - owner: " + owner, cause);
+    }
+}
@@ -0,0 +1,134 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointBatchCommand;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이 인스턴스가 담당하지 않는 사용자의 요청을 담당 인스턴스(owner)에 HTTP 로 전달합니다.
+ * - 전달한 요청에는 FORWARDED_HEADER 를 붙여, 받은 인스턴스가 다시 다른 인스턴스로 전달하지 않도록 합니다.
+ * - 응답은 상태 코드와 본문을 그대로 돌려주므로 내역 스트림(NDJSON)도 받는 대로 전달됩니다.
+ */
+@Component
+public class PointForwarder {
+
+    public static final String FORWARDED_HEADER = "X-Point-Forwarded-By";
+    private static final List<String> REQUEST_HEADERS = List.of("Content-Type", "Accept", "Idempotency-Key");
+    private static final List<String> RESPONSE_HEADERS = List.of("Content-Type", "Retry-After");
+    private static final TypeReference<List<PointBatchResult>> BATCH_RESULTS = new TypeReference<>() {
+    };
+
+    private final ClusterMembership clusterMembership;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final Map<String, Timer> forwardTimers = new HashMap<>(); // owner -> 전달부터 응답 헤더 수신까지
+
+    public PointForwarder(ClusterMembership clusterMembership,
+                          ObjectMapper objectMapper,
+                          @Value("${point.cluster.forward-timeout-millis:3000}") long timeoutMillis,
+                          MeterRegistry meterRegistry) {
+        this.clusterMembership = clusterMembership;
+        this.objectMapper = objectMapper;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        for (String node : clusterMembership.nodes()) {
+            forwardTimers.put(node, Timer.builder("point.cluster.forward")
+                    .description("담당 인스턴스로 요청을 전달하는 데 걸린 시간")
+                    .tag("owner", node)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 요청을 owner 의 같은 경로로 보내고, 받은 응답을 그대로 response 에 씁니다.
+     */
+    public void forward(String owner, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String query = request.getQueryString();
+        URI uri = URI.create(owner + request.getRequestURI() + (query == null ? "" : "?" + query));
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body))
+                .header(FORWARDED_HEADER, clusterMembership.self());
+        for (String name : REQUEST_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                builder.header(name, value);
+            }
+        }
+
+        HttpResponse<InputStream> forwarded = send(owner, builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        response.setStatus(forwarded.statusCode());
+        for (String name : RESPONSE_HEADERS) {
+            forwarded.headers().firstValue(name).ifPresent(value -> response.setHeader(name, value));
+        }
+        try (InputStream in = forwarded.body()) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    /**
+     * owner 가 담당하는 사용자의 명령만 모아 owner 의 일괄 처리 API 로 보냅니다.
+     */
+    public List<PointBatchResult> forwardBatch(String owner, List<PointBatchCommand> commands) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(owner + "/point/batch"))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .header(FORWARDED_HEADER, clusterMembership.self())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(commands)))
+                    .build();
+            HttpResponse<byte[]> response = send(owner, request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new OwnerUnavailableException(owner, new IllegalStateException("HTTP " + response.statusCode()));
+            }
+            return objectMapper.readValue(response.body(), BATCH_RESULTS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> HttpResponse<T> send(String owner, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        long start = System.nanoTime();
+        try {
+            return httpClient.send(request, bodyHandler);
+        } catch (IOException e) {
+            throw new OwnerUnavailableException(owner, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OwnerUnavailableException(owner, e);
+        } finally {
+            Timer timer = forwardTimers.get(owner);
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.executor;
+
+/**
+ * 낙관적 실행 중 다른 명령이 먼저 잔고를 바꿔 저장에 실패했을 때 발생 (명령을 처음부터 다시 실행하면 됩니다.)
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(long userId) {
+        super("다른 요청이 먼저 잔고를 변경했습니다. userId: " + userId, null, false, false);
+    }
+}
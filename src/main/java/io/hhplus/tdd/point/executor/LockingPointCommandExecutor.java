@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.hotkey.HotKeyTracker;
+import io.hhplus.tdd.point.lock.LockTimeoutException;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 호출한 스레드에서 사용자별 Lock 을 잡고 명령을 바로 실행하는 방식 (기본값)
+ * - Lock 획득 대기 시간과 보유 시간을 point.lock.wait / point.lock.hold 로 기록하고, 사용자별 대기 시간은 HotKeyTracker 에 기록합니다.
+ * - point.lock.timeout-millis 안에 Lock 을 얻지 못한 명령은 실행하지 않고 LockTimeoutException 으로 실패합니다. (0 이면 제한 없음)
+ */
+@Component
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "lock", matchIfMissing = true)
+public class LockingPointCommandExecutor implements PointCommandExecutor {
+
+    private final UserLockManager userLockManager;
+    private final Timer lockWaitTimer;
+    private final Timer lockHoldTimer;
+    private final Counter lockTimeoutCounter;
+    private final long lockTimeoutNanos;
+    private final HotKeyTracker hotKeyTracker;
+
+    public LockingPointCommandExecutor(UserLockManager userLockManager,
+                                       @Value("${point.lock.timeout-millis:0}") long lockTimeoutMillis,
+                                       HotKeyTracker hotKeyTracker,
+                                       MeterRegistry meterRegistry) {
+        if (lockTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Lock 대기 시간은 0 이상이어야 합니다.");
+        }
+        this.userLockManager = userLockManager;
+        this.lockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(lockTimeoutMillis);
+        this.hotKeyTracker = hotKeyTracker;
+        this.lockWaitTimer = Timer.builder("point.lock.wait")
+                .description("사용자 Lock 획득까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.lockHoldTimer = Timer.builder("point.lock.hold")
+                .description("사용자 Lock 을 보유한 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.lockTimeoutCounter = Counter.builder("point.lock.timeouts")
+                .description("대기 시간 안에 사용자 Lock 을 얻지 못한 명령 수")
+                .register(meterRegistry);
+        Gauge.builder("point.lock.active", userLockManager, UserLockManager::activeLocks)
+                .description("보유 또는 대기 중인 사용자 Lock 수")
+                .register(meterRegistry);
+        Gauge.builder("point.lock.waiting", userLockManager, UserLockManager::waitingThreads)
+                .description("사용자 Lock 을 기다리는 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+        long requestedAt = System.nanoTime();
+        Supplier<T> timed = () -> {
+            long acquiredAt = System.nanoTime();
+            lockWaitTimer.record(acquiredAt - requestedAt, TimeUnit.NANOSECONDS);
+            hotKeyTracker.recordLockWait(userId, acquiredAt - requestedAt);
+            try {
+                return command.get();
+            } finally {
+                lockHoldTimer.record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            }
+        };
+        try {
+            if (lockTimeoutNanos == 0) {
+                return CompletableFuture.completedFuture(userLockManager.executeWithLock(userId, timed));
+            }
+            return CompletableFuture.completedFuture(userLockManager.executeWithLock(userId, lockTimeoutNanos, TimeUnit.NANOSECONDS, timed));
+        } catch (LockTimeoutException e) {
+            lockTimeoutCounter.increment();
+            return CompletableFuture.failedFuture(e);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Lock 없이 호출한 스레드에서 명령을 바로 실행하고, 잔고 저장(compare-and-set)이 충돌하면 다시 실행하는 방식
+ * - 재시도 사이에는 지수적으로 늘어나는 짧은 대기(최대 MAX_BACKOFF_NANOS)를 둡니다.
+ * - 재시도 횟수를 넘긴 사용자는 일정 시간 동안 hot key 로 보고 사용자별 Lock 으로 실행합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "optimistic")
+public class OptimisticPointCommandExecutor implements PointCommandExecutor {
+
+    private static final long BASE_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MAX_TRACKED_HOT_KEYS = 10_000;
+
+    private final UserLockManager userLockManager;
+    private final int maxRetries;
+    private final long hotKeyNanos;
+    // hot key 로 판정된 사용자 -> Lock 으로 실행할 기한 (System.nanoTime 기준)
+    private final ConcurrentHashMap<Long, Long> hotKeys = new ConcurrentHashMap<>();
+    private final Counter conflictCounter;
+    private final Counter lockFallbackCounter;
+
+    public OptimisticPointCommandExecutor(UserLockManager userLockManager,
+                                          @Value("${point.optimistic.max-retries:8}") int maxRetries,
+                                          @Value("${point.optimistic.hot-key-millis:1000}") long hotKeyMillis,
+                                          MeterRegistry meterRegistry) {
+        if (maxRetries < 0 || hotKeyMillis < 0) {
+            throw new IllegalArgumentException("재시도 횟수와 hot key 유지 시간은 0 이상이어야 합니다.");
+        }
+        this.userLockManager = userLockManager;
+        this.maxRetries = maxRetries;
+        this.hotKeyNanos = TimeUnit.MILLISECONDS.toNanos(hotKeyMillis);
+        this.conflictCounter = Counter.builder("point.optimistic.conflicts")
+                .description("잔고 저장 충돌로 명령을 다시 실행한 횟수")
+                .register(meterRegistry);
+        this.lockFallbackCounter = Counter.builder("point.optimistic.lock.fallbacks")
+                .description("hot key 로 판정되어 Lock 으로 실행한 명령 수")
+                .register(meterRegistry);
+        Gauge.builder("point.optimistic.hot.keys", hotKeys, ConcurrentHashMap::size)
+                .description("Lock 으로 실행 중인 hot key 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+        try {
+            if (isHot(userId)) {
+                return CompletableFuture.completedFuture(executeWithLock(userId, command));
+            }
+            for (int attempt = 0; attempt <= maxRetries; attempt++) {
+                try {
+                    return CompletableFuture.completedFuture(command.get());
+                } catch (ConcurrentUpdateException e) {
+                    conflictCounter.increment();
+                    backoff(attempt);
+                }
+            }
+            markHot(userId);
+            return CompletableFuture.completedFuture(executeWithLock(userId, command));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public boolean requiresCompareAndSave() {
+        return true;
+    }
+
+    public boolean isHot(long userId) {
+        Long deadline = hotKeys.get(userId);
+        if (deadline == null) {
+            return false;
+        }
+        if (System.nanoTime() - deadline < 0) {
+            return true;
+        }
+        hotKeys.remove(userId, deadline);
+        return false;
+    }
+
+    // Lock 을 잡아도 Lock 밖에서 실행 중이던 명령과는 충돌할 수 있으므로 성공할 때까지 다시 실행한다.
+    private <T> T executeWithLock(long userId, Supplier<T> command) {
+        lockFallbackCounter.increment();
+        return userLockManager.executeWithLock(userId, () -> {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    return command.get();
+                } catch (ConcurrentUpdateException e) {
+                    conflictCounter.increment();
+                    backoff(attempt);
+                }
+            }
+        });
+    }
+
+    private void markHot(long userId) {
+        long now = System.nanoTime();
+        if (hotKeys.size() >= MAX_TRACKED_HOT_KEYS) {
+            hotKeys.values().removeIf(deadline -> now - deadline >= 0);
+        }
+        hotKeys.put(userId, now + hotKeyNanos);
+    }
+
+    private static void backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_NANOS, BASE_BACKOFF_NANOS << Math.min(attempt, 20));
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1)); // 동시에 다시 충돌하지 않도록 대기 시간을 흩뜨린다.
+    }
+}
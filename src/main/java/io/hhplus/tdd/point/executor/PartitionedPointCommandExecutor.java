@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point.executor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * userId 를 N 개의 파티션으로 나누고, 파티션마다 하나의 worker 스레드가 mailbox 의 명령을 순서대로 처리하는 방식
+ * - 같은 사용자의 명령은 항상 같은 worker 에서 실행되므로 Lock 없이 순차 처리가 보장됩니다.
+ * - mailbox 가 가득 차면 명령을 거절합니다.
+ * - mailbox 대기 시간과 실행 시간을 point.partition.wait / point.partition.execution 으로 기록합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.execution.mode", havingValue = "partitioned")
+public class PartitionedPointCommandExecutor implements PointCommandExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final ThreadPoolExecutor[] partitions;
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+
+    public PartitionedPointCommandExecutor(@Value("${point.execution.partitions:16}") int partitionCount,
+                                           @Value("${point.execution.mailbox-capacity:10000}") int mailboxCapacity,
+                                           MeterRegistry meterRegistry) {
+        if (partitionCount <= 0 || mailboxCapacity <= 0) {
+            throw new IllegalArgumentException("파티션 수와 mailbox 크기는 0 보다 커야 합니다.");
+        }
+        this.partitions = new ThreadPoolExecutor[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            String threadName = "point-partition-" + i;
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(mailboxCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            Gauge.builder("point.partition.queue.depth", partitions[i], executor -> executor.getQueue().size())
+                    .description("파티션 mailbox 에 대기 중인 명령 수")
+                    .tag("partition", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        this.waitTimer = Timer.builder("point.partition.wait")
+                .description("명령이 mailbox 에서 실행을 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("point.partition.execution")
+                .description("worker 가 명령을 실행한 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            partitions[partitionOf(userId)].execute(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    future.complete(command.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new IllegalStateException("포인트 처리 대기열이 가득 찼습니다.", e));
+        }
+        return future;
+    }
+
+    public int partitionOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) Long.remainderUnsigned(hash >>> 32, partitions.length);
+    }
+
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    // 파티션별 mailbox 에 대기 중인 명령 수
+    public int queueDepth(int partition) {
+        return partitions[partition].getQueue().size();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.shutdown();
+        }
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
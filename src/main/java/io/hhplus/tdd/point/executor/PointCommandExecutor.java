@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 충전/사용 명령 실행기
+ * - 같은 사용자의 명령은 한 번에 하나씩 순서대로 실행되고, 결과는 CompletableFuture 로 전달됩니다.
+ * - point.execution.mode 설정으로 구현체를 선택합니다. (lock: 사용자별 Lock, partitioned: 파티션별 단일 worker, optimistic: Lock 없이 실행 후 충돌 시 재시도)
+ */
+public interface PointCommandExecutor {
+
+    <T> CompletableFuture<T> submit(long userId, Supplier<T> command);
+
+    // 같은 사용자의 명령이 동시에 실행될 수 있어 잔고를 compare-and-set 으로 저장해야 하는지 여부
+    default boolean requiresCompareAndSave() {
+        return false;
+    }
+}
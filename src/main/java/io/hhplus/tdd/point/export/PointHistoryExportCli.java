@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 실행 중인 인스턴스의 내보내기 API(/admin/ledger/export)로 전체 포인트 내역을 받아 파일에 쓰고 초당 내역 수를 출력합니다.
+ * - 응답 본문을 channel 로 읽어 그대로 FileChannel 에 쓰므로 내역 수와 관계없이 고정 크기 buffer 만 사용합니다.
+ * 실행: ./gradlew ledgerExport -PledgerExport.args="url=http://localhost:8080 format=binary from=1714489200000"
+ */
+public final class PointHistoryExportCli {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private PointHistoryExportCli() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new LinkedHashMap<>(Map.of("url", "http://localhost:8080", "format", "csv"));
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        PointHistoryExportFormat format = PointHistoryExportFormat.from(options.get("format"));
+        Path out = Path.of(options.getOrDefault("out", "build/ledger/point-histories." + format.fileExtension()));
+
+        StringJoiner query = new StringJoiner("&", "?", "").add("format=" + options.get("format"));
+        if (options.containsKey("from")) {
+            query.add("from=" + options.get("from"));
+        }
+        if (options.containsKey("to")) {
+            query.add("to=" + options.get("to"));
+        }
+        URI uri = URI.create(options.get("url") + "/admin/ledger/export" + query);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            try (InputStream body = response.body()) {
+                throw new IllegalStateException("내보내기 요청 실패 - HTTP " + response.statusCode() + ": " + new String(body.readAllBytes()));
+            }
+        }
+
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        long bytes = 0L;
+        long lines = 0L;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (ReadableByteChannel in = Channels.newChannel(response.body());
+             FileChannel file = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                if (format == PointHistoryExportFormat.CSV) {
+                    for (int i = buffer.position(); i < buffer.limit(); i++) {
+                        if (buffer.get(i) == '\n') {
+                            lines++;
+                        }
+                    }
+                }
+                while (buffer.hasRemaining()) {
+                    bytes += file.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+
+        long rows = format == PointHistoryExportFormat.CSV
+                ? Math.max(lines - 1, 0L) // 헤더 제외
+                : bytes / PointHistoryExportFormat.BINARY_RECORD_SIZE;
+        PointHistoryExportResult result = new PointHistoryExportResult(rows, bytes, System.nanoTime() - start);
+        System.out.printf("%s -> %s%n", uri, out.toAbsolutePath());
+        System.out.printf("내역 수: %,d, 크기: %,d byte, 소요 시간: %,d ms, 초당 내역 수: %,d%n",
+                result.rows(), result.bytes(), result.elapsedNanos() / 1_000_000L, result.rowsPerSecond());
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.export;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.channels.Channels;
+
+/**
+ * 운영자용: 정산 대사를 위한 전체 포인트 내역 내보내기
+ */
+@RestController
+@RequestMapping("/admin/ledger")
+public class PointHistoryExportController {
+
+    private final PointHistoryExporter pointHistoryExporter;
+
+    public PointHistoryExportController(PointHistoryExporter pointHistoryExporter) {
+        this.pointHistoryExporter = pointHistoryExporter;
+    }
+
+    /**
+     * 이 인스턴스가 가진 전체 내역을 format(csv, binary) 으로 응답에 바로 씁니다.
+     * - from(포함), to(제외)를 epoch millis 로 지정하면 그 기간에 처리된 내역만 내보냅니다.
+     */
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        PointHistoryExportFormat exportFormat = PointHistoryExportFormat.from(format);
+        long fromMillis = from != null ? from : Long.MIN_VALUE;
+        long toMillis = to != null ? to : Long.MAX_VALUE;
+        PointHistoryExporter.checkRange(fromMillis, toMillis);
+
+        StreamingResponseBody body = outputStream ->
+                pointHistoryExporter.export(fromMillis, toMillis, exportFormat, Channels.newChannel(outputStream));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"point-histories." + exportFormat.fileExtension() + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.export;
+
+/**
+ * 내역 내보내기 형식
+ * - CSV : 헤더 한 줄 + 내역 한 줄씩 (id,userId,amount,type,updateMillis)
+ * - BINARY : 내역 한 건당 33 byte 고정 길이 레코드 (id, userId, amount, updateMillis 각 8 byte big-endian + type 1 byte(0: CHARGE, 1: USE))
+ */
+public enum PointHistoryExportFormat {
+    CSV("text/csv", "csv"),
+    BINARY("application/octet-stream", "bin");
+
+    public static final int BINARY_RECORD_SIZE = 33;
+
+    private final String contentType;
+    private final String fileExtension;
+
+    PointHistoryExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public static PointHistoryExportFormat from(String format) {
+        return switch (format) {
+            case "csv" -> CSV;
+            case "binary" -> BINARY;
+            default -> throw new IllegalArgumentException("내보내기 형식은 csv 또는 binary 이어야 합니다: " + format);
+        };
+    }
+}
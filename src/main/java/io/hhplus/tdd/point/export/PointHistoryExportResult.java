@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.export;
+
+/**
+ * 내역 내보내기 결과 (내보낸 내역 수, 쓴 byte 수, 소요 시간)
+ */
+public record PointHistoryExportResult(
+        long rows,
+        long bytes,
+        long elapsedNanos
+) {
+
+    public long rowsPerSecond() {
+        return elapsedNanos == 0L ? rows : (long) (rows * 1_000_000_000.0 / elapsedNanos);
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRowVisitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 포인트 내역을 CSV 또는 고정 길이 binary 로 channel(파일, HTTP 응답)에 씁니다.
+ * - 저장소의 내역을 목록으로 모으지 않고 한 건씩 direct buffer 에 인코딩하고, buffer 가 차면 channel 에 씁니다.
+ * - CSV 의 숫자도 문자열을 만들지 않고 buffer 에 바로 씁니다.
+ */
+@Component
+public class PointHistoryExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryExporter.class);
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_CSV_ROW_SIZE = 4 * 20 + 6 + 5; // long 4개(부호 포함 최대 20자) + type + 구분자/줄바꿈
+    private static final byte[] CSV_HEADER = "id,userId,amount,type,updateMillis\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] CSV_TYPES = {
+            TransactionType.CHARGE.name().getBytes(StandardCharsets.US_ASCII),
+            TransactionType.USE.name().getBytes(StandardCharsets.US_ASCII)
+    };
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final Timer exportTimer;
+    private final Counter exportedRows;
+
+    public PointHistoryExporter(PointHistoryRepository pointHistoryRepository, MeterRegistry meterRegistry) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.exportTimer = Timer.builder("point.export")
+                .description("포인트 내역 내보내기 소요 시간")
+                .register(meterRegistry);
+        this.exportedRows = Counter.builder("point.export.rows")
+                .description("내보낸 포인트 내역 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * updateMillis 가 from 이상 to 미만인 내역을 channel 에 씁니다. (channel 은 닫지 않습니다.)
+     */
+    public PointHistoryExportResult export(long from, long to, PointHistoryExportFormat format, WritableByteChannel channel) throws IOException {
+        checkRange(from, to);
+        long start = System.nanoTime();
+        pointHistoryRepository.flush(); // 저장 대기 중인 내역까지 포함
+        ChannelEncoder encoder = new ChannelEncoder(channel, format);
+        if (format == PointHistoryExportFormat.CSV) {
+            encoder.buffer.put(CSV_HEADER);
+        }
+        pointHistoryRepository.forEachBetween(from, to, encoder);
+        encoder.drain();
+
+        PointHistoryExportResult result = new PointHistoryExportResult(encoder.rows, encoder.bytes, System.nanoTime() - start);
+        exportTimer.record(result.elapsedNanos(), TimeUnit.NANOSECONDS);
+        exportedRows.increment(result.rows());
+        log.info("포인트 내역 내보내기 완료 - 형식: {}, 내역 수: {}, 크기: {} byte, 소요 시간: {} ms, 초당 내역 수: {}",
+                format, result.rows(), result.bytes(), TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()), result.rowsPerSecond());
+        return result;
+    }
+
+    static void checkRange(long from, long to) {
+        if (from >= to) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 빨라야 합니다.");
+        }
+    }
+
+    private static final class ChannelEncoder implements PointHistoryRowVisitor {
+
+        private final WritableByteChannel channel;
+        private final PointHistoryExportFormat format;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private long rows;
+        private long bytes;
+
+        private ChannelEncoder(WritableByteChannel channel, PointHistoryExportFormat format) {
+            this.channel = channel;
+            this.format = format;
+        }
+
+        @Override
+        public void visit(long id, long userId, long amount, TransactionType type, long updateMillis) throws IOException {
+            if (buffer.remaining() < MAX_CSV_ROW_SIZE) {
+                drain();
+            }
+            if (format == PointHistoryExportFormat.BINARY) {
+                buffer.putLong(id).putLong(userId).putLong(amount).putLong(updateMillis).put((byte) type.ordinal());
+            } else {
+                putDecimal(id);
+                buffer.put((byte) ',');
+                putDecimal(userId);
+                buffer.put((byte) ',');
+                putDecimal(amount);
+                buffer.put((byte) ',');
+                buffer.put(CSV_TYPES[type.ordinal()]);
+                buffer.put((byte) ',');
+                putDecimal(updateMillis);
+                buffer.put((byte) '\n');
+            }
+            rows++;
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                bytes += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        // 자릿수를 뒤에서부터 쓴 뒤 뒤집는다.
+        private void putDecimal(long value) {
+            if (value == Long.MIN_VALUE) {
+                buffer.put(LONG_MIN_VALUE);
+                return;
+            }
+            if (value < 0) {
+                buffer.put((byte) '-');
+                value = -value;
+            }
+            int low = buffer.position();
+            do {
+                buffer.put((byte) ('0' + value % 10));
+                value /= 10;
+            } while (value != 0);
+            int high = buffer.position() - 1;
+            while (low < high) {
+                byte digit = buffer.get(low);
+                buffer.put(low++, buffer.get(high));
+                buffer.put(high--, digit);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 count-min sketch
+ * - 키마다 DEPTH 개의 행에서 서로 다른 해시로 카운터 하나씩을 올리고, 추정치는 그중 최솟값입니다.
+ * - 충돌로 과대 추정될 수는 있지만 과소 추정되지는 않습니다.
+ */
+final class CountMinSketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int mask;
+
+    CountMinSketch(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("sketch 너비는 0 보다 커야 합니다.");
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1; // 2의 거듭제곱으로 올림
+        this.mask = this.width - 1;
+        this.counters = new AtomicLongArray(DEPTH * this.width);
+    }
+
+    // delta 를 더한 뒤의 추정치 반환
+    long add(long key, long delta) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.addAndGet(index(key, row), delta));
+        }
+        return estimate;
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(key, row)));
+        }
+        return estimate;
+    }
+
+    // 모든 카운터를 절반으로 줄여 오래된 요청의 비중을 낮춘다.
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >> 1);
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = (key ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 31;
+        return row * width + ((int) (hash >>> 32) & mask);
+    }
+}
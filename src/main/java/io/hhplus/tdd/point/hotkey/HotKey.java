@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.hotkey;
+
+/**
+ * 요청이 몰리는 사용자 (최근 요청 수와 Lock 대기 시간 추정치)
+ */
+public record HotKey(
+        long userId,
+        long requests,
+        double lockWaitMillis
+) {
+}
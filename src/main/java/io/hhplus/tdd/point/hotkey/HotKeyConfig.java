@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 사용자별 포인트 API(조회, 내역, 충전, 사용 - 동기/비동기)를 hot key 집계 대상으로 등록합니다.
+ */
+@Configuration
+public class HotKeyConfig implements WebMvcConfigurer {
+
+    private final HotKeyInterceptor hotKeyInterceptor;
+
+    public HotKeyConfig(HotKeyInterceptor hotKeyInterceptor) {
+        this.hotKeyInterceptor = hotKeyInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(hotKeyInterceptor)
+                .addPathPatterns("/point/{id}", "/point/{id}/**", "/point/async/{id}", "/point/async/{id}/**");
+    }
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영자용: 최근 요청이 몰리거나 Lock 대기가 긴 사용자 조회
+ */
+@RestController
+@RequestMapping("/admin/hot-keys")
+public class HotKeyController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final HotKeyTracker hotKeyTracker;
+
+    public HotKeyController(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    /**
+     * 상위 사용자를 요청 수(by=requests) 또는 Lock 대기 시간(by=lock-wait) 순으로 조회합니다.
+     */
+    @GetMapping
+    public List<HotKey> hotKeys(
+            @RequestParam(defaultValue = "lock-wait") String by,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 건수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        return switch (by) {
+            case "requests" -> hotKeyTracker.topByRequests(limit);
+            case "lock-wait" -> hotKeyTracker.topByLockWait(limit);
+            default -> throw new IllegalArgumentException("정렬 기준은 requests 또는 lock-wait 이어야 합니다: " + by);
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.hotkey;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 사용자별 포인트 API 요청을 HotKeyTracker 에 기록합니다. (비동기 요청의 재dispatch 는 제외)
+ */
+@Component
+public class HotKeyInterceptor implements HandlerInterceptor {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    public HotKeyInterceptor(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !variables.containsKey("id")) {
+            return true;
+        }
+        try {
+            hotKeyTracker.recordRequest(Long.parseLong(variables.get("id")));
+        } catch (NumberFormatException e) {
+            // 컨트롤러의 타입 변환 오류로 처리
+        }
+        return true;
+    }
+}
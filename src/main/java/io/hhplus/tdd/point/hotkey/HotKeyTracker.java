@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 요청 수와 Lock 대기 시간을 count-min sketch 로 추정하고, 각각 상위 top-k 사용자를 유지합니다.
+ * - 메모리는 sketch 너비와 top-k 로 고정되며, 요청마다 로그를 남기지 않습니다.
+ * - decay-seconds 마다 모든 추정치를 절반으로 줄이므로 최근 요청일수록 비중이 큽니다.
+ */
+@Component
+public class HotKeyTracker {
+
+    private final CountMinSketch requests;
+    private final CountMinSketch lockWaits; // nanos
+    private final TopK topRequests;
+    private final TopK topLockWaits;
+    private final long decayNanos;
+    private final AtomicLong nextDecayAt;
+
+    public HotKeyTracker(@Value("${point.hot-key.top-k:100}") int topK,
+                         @Value("${point.hot-key.sketch-width:4096}") int sketchWidth,
+                         @Value("${point.hot-key.decay-seconds:60}") long decaySeconds) {
+        if (decaySeconds <= 0) {
+            throw new IllegalArgumentException("decay 주기는 0 보다 커야 합니다.");
+        }
+        this.requests = new CountMinSketch(sketchWidth);
+        this.lockWaits = new CountMinSketch(sketchWidth);
+        this.topRequests = new TopK(topK);
+        this.topLockWaits = new TopK(topK);
+        this.decayNanos = TimeUnit.SECONDS.toNanos(decaySeconds);
+        this.nextDecayAt = new AtomicLong(System.nanoTime() + decayNanos);
+    }
+
+    // 충전/사용/조회 요청마다 호출
+    public void recordRequest(long userId) {
+        decayIfDue();
+        topRequests.offer(userId, requests.add(userId, 1));
+    }
+
+    // 사용자 Lock 을 얻기까지 기다린 시간
+    public void recordLockWait(long userId, long waitNanos) {
+        if (waitNanos <= 0) {
+            return;
+        }
+        decayIfDue();
+        topLockWaits.offer(userId, lockWaits.add(userId, waitNanos));
+    }
+
+    public List<HotKey> topByRequests(int limit) {
+        return topRequests.keys().stream().limit(limit).map(this::hotKey).toList();
+    }
+
+    public List<HotKey> topByLockWait(int limit) {
+        return topLockWaits.keys().stream().limit(limit).map(this::hotKey).toList();
+    }
+
+    private HotKey hotKey(long userId) {
+        return new HotKey(userId, requests.estimate(userId), lockWaits.estimate(userId) / 1_000_000.0);
+    }
+
+    // 기한이 지나면 한 스레드만 절반으로 줄인다.
+    private void decayIfDue() {
+        long deadline = nextDecayAt.get();
+        long now = System.nanoTime();
+        if (now - deadline < 0 || !nextDecayAt.compareAndSet(deadline, now + decayNanos)) {
+            return;
+        }
+        requests.halve();
+        lockWaits.halve();
+        topRequests.halve();
+        topLockWaits.halve();
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.hotkey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * sketch 추정치 기준 상위 capacity 개의 키
+ * - 이미 포함된 키의 추정치 갱신은 Lock 없이 처리하고, 새 키는 추정치가 현재 최솟값보다 클 때만 Lock 을 잡고 교체합니다.
+ */
+final class TopK {
+
+    private final int capacity;
+    private final ConcurrentHashMap<Long, Long> entries = new ConcurrentHashMap<>();
+    private volatile long threshold; // 가득 찬 경우 가장 작은 추정치 (가득 차기 전에는 0)
+
+    TopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("상위 키 개수는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    void offer(long key, long estimate) {
+        if (entries.replace(key, estimate) != null || estimate <= threshold) {
+            return;
+        }
+        synchronized (this) {
+            if (entries.containsKey(key)) {
+                entries.put(key, estimate);
+                return;
+            }
+            if (entries.size() >= capacity) {
+                Map.Entry<Long, Long> min = minEntry();
+                if (min == null || estimate <= min.getValue()) {
+                    return;
+                }
+                entries.remove(min.getKey());
+            }
+            entries.put(key, estimate);
+            updateThreshold();
+        }
+    }
+
+    synchronized void halve() {
+        entries.replaceAll((key, estimate) -> estimate >> 1);
+        updateThreshold();
+    }
+
+    // 추정치 내림차순
+    List<Long> keys() {
+        List<Map.Entry<Long, Long>> snapshot = new ArrayList<>(entries.entrySet());
+        snapshot.sort(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()));
+        return snapshot.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private void updateThreshold() {
+        Map.Entry<Long, Long> min = minEntry();
+        threshold = entries.size() < capacity || min == null ? 0 : min.getValue();
+    }
+
+    private Map.Entry<Long, Long> minEntry() {
+        Map.Entry<Long, Long> min = null;
+        for (Map.Entry<Long, Long> entry : entries.entrySet()) {
+            if (min == null || entry.getValue() < min.getValue()) {
+                min = entry;
+            }
+        }
+        return min;
+    }
+}
@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 충전/사용 결과를 보관하는 메모리 저장소
+ * - 같은 사용자가 같은 키로 다시 요청하면 Lock 과 테이블을 거치지 않고 처음 결과를 그대로 반환합니다.
+ * - 처음 요청이 아직 처리 중이면 그 결과를 기다리고, 실패한 요청은 보관하지 않으므로 다시 요청하면 새로 처리합니다.
+ * - 보관 기간(ttl)이 지났거나 최대 건수를 넘으면 오래된 키부터 제거합니다. (처리 중인 키는 끝날 때까지 남겨 중복 실행을 막음)
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    // userId:Idempotency-Key -> 처음 요청과 결과
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 저장한 순서 (만료/초과된 키를 앞에서부터 제거)
+    // - 실패하거나 다시 만든 키의 이전 값도 남으므로 entries 가 아니라 큐 길이로 최대 건수를 지킨다.
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger(); // ConcurrentLinkedQueue.size() 는 O(n)
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public IdempotencyStore(@Value("${point.idempotency.max-size:100000}") int maxSize,
+                            @Value("${point.idempotency.ttl-seconds:600}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        if (maxSize <= 0 || ttlSeconds <= 0) {
+            throw new IllegalArgumentException("Idempotency-Key 보관 건수와 기간은 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.hitCounter = requestCounter("hit", meterRegistry);
+        this.missCounter = requestCounter("miss", meterRegistry);
+        Gauge.builder("point.idempotency.size", entries, ConcurrentHashMap::size)
+                .description("보관 중인 Idempotency-Key 수")
+                .register(meterRegistry);
+    }
+
+    public UserPoint execute(String idempotencyKey, long userId, TransactionType type, long amount, Supplier<UserPoint> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        String key = userId + ":" + idempotencyKey;
+        Request request = new Request(type, amount);
+        long now = System.nanoTime();
+        Entry created = new Entry(key, request, new CompletableFuture<>(), now + ttlNanos);
+        Entry existing;
+        while ((existing = entries.putIfAbsent(key, created)) != null) {
+            if (!existing.isExpired(now)) {
+                hitCounter.increment();
+                return replay(existing, request);
+            }
+            entries.remove(key, existing);
+        }
+        missCounter.increment();
+        insertionOrder.add(created);
+        queued.incrementAndGet();
+        evict(now);
+
+        try {
+            UserPoint result = action.get();
+            created.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            // 실패한 요청은 보관하지 않는다. (기다리던 중복 요청에는 같은 실패를 전달)
+            entries.remove(key, created);
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private UserPoint replay(Entry existing, Request request) {
+        if (!existing.request().equals(request)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        try {
+            return existing.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evict(long now) {
+        Entry firstRequeued = null;
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (queued.get() > maxSize || oldest.isExpired(now) || oldest.result().isCompletedExceptionally())) {
+            Entry polled = insertionOrder.poll();
+            if (polled == null) {
+                continue;
+            }
+            if (!polled.result().isDone()) {
+                // 처리 중인 키를 지우면 다시 보낸 요청이 한 번 더 실행되므로 뒤로 보낸다. (한 바퀴 돌면 멈춤)
+                insertionOrder.add(polled);
+                if (polled == firstRequeued) {
+                    return;
+                }
+                if (firstRequeued == null) {
+                    firstRequeued = polled;
+                }
+                continue;
+            }
+            queued.decrementAndGet();
+            entries.remove(polled.key(), polled);
+        }
+    }
+
+    private static Counter requestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("point.idempotency.requests")
+                .description("Idempotency-Key 가 있는 충전/사용 요청 수 (hit: 보관된 결과 반환)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Request(TransactionType type, long amount) {
+    }
+
+    private record Entry(String key, Request request, CompletableFuture<UserPoint> result, long expiresAtNanos) {
+
+        // 처리 중인 키는 보관 기간이 지나도 만료되지 않는다.
+        boolean isExpired(long now) {
+            return result.isDone() && now - expiresAtNanos >= 0;
+        }
+    }
+}
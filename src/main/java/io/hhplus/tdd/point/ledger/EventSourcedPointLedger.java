@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.executor.ConcurrentUpdateException;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRowVisitor;
+import io.hhplus.tdd.point.repository.PointLedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * event-sourced 모드의 포인트 원장 (point.persistence.mode=event-sourced)
+ * - 내역을 컬럼형 저장소에 추가하면서 같은 Lock 안에서 사용자별 잔고 projection 을 갱신합니다.
+ * - Lock 은 userId 를 해시한 stripe 단위이므로 다른 사용자의 추가는 서로 기다리지 않습니다. (행 추가 자체는 컬럼형 저장소 안에서 순서대로)
+ * - 여러 내역을 추가할 때는 모두 추가할 수 있는지 먼저 확인하고 한 번에 추가하므로 일부만 추가되지 않습니다.
+ * - 잔고 조회는 projection 에서 O(1) 로 읽습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.persistence.mode", havingValue = "event-sourced")
+public class EventSourcedPointLedger implements PointLedger, PointHistoryRepository {
+
+    private static final int APPEND_LOCK_STRIPES = 256; // 2의 거듭제곱
+
+    private final ColumnarPointHistoryRepository histories;
+    // userId -> 마지막 내역까지 반영한 잔고
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final ReentrantLock[] appendLocks = new ReentrantLock[APPEND_LOCK_STRIPES];
+
+    public EventSourcedPointLedger(MeterRegistry meterRegistry) {
+        this.histories = new ColumnarPointHistoryRepository(meterRegistry);
+        for (int i = 0; i < APPEND_LOCK_STRIPES; i++) {
+            appendLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public UserPoint balanceOf(long userId) {
+        UserPoint userPoint = balances.get(userId);
+        return userPoint != null ? userPoint : UserPoint.empty(userId);
+    }
+
+    @Override
+    public CompletableFuture<Void> append(long userId, long expectedPoint, List<PointHistory> pointHistories) {
+        ReentrantLock lock = appendLockFor(userId);
+        lock.lock();
+        try {
+            UserPoint current = balances.get(userId);
+            if ((current == null ? 0L : current.point()) != expectedPoint) {
+                throw new ConcurrentUpdateException(userId);
+            }
+            histories.saveAll(pointHistories).forEach(this::project);
+            return CompletableFuture.completedFuture(null); // 메모리에 추가되면 끝
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> findByUserId(Long id) {
+        return histories.findByUserId(id);
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdAfter(Long id, long cursor, int limit) {
+        return histories.findByUserIdAfter(id, cursor, limit);
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdBetween(Long id, long from, long to) {
+        return histories.findByUserIdBetween(id, from, to);
+    }
+
+    @Override
+    public void forEachBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException {
+        histories.forEachBetween(from, to, visitor);
+    }
+
+    @Override
+    public List<PointSummaryBucket> summarize(Long id, PointSummaryInterval interval, long from, long to) {
+        return histories.summarize(id, interval, from, to);
+    }
+
+    // 내역을 직접 저장해도 잔고 projection 에 반영된다.
+    @Override
+    public PointHistory save(PointHistory pointHistory) {
+        ReentrantLock lock = appendLockFor(pointHistory.userId());
+        lock.lock();
+        try {
+            PointHistory saved = histories.save(pointHistory);
+            project(saved);
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<PointHistory> saveAsync(PointHistory pointHistory) {
+        try {
+            return CompletableFuture.completedFuture(save(pointHistory));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> saveAllAsync(List<PointHistory> pointHistories) {
+        // 여러 사용자의 내역이 섞여 있으면 해당 stripe 를 모두 번호 순서대로 잡는다. (교착 방지)
+        TreeSet<Integer> stripes = new TreeSet<>();
+        for (PointHistory pointHistory : pointHistories) {
+            stripes.add(stripeOf(pointHistory.userId()));
+        }
+        List<ReentrantLock> locked = new ArrayList<>(stripes.size());
+        try {
+            for (int stripe : stripes) {
+                appendLocks[stripe].lock();
+                locked.add(appendLocks[stripe]);
+            }
+            List<PointHistory> saved = histories.saveAll(pointHistories);
+            saved.forEach(this::project);
+            return CompletableFuture.completedFuture(saved);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            locked.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    @Override
+    public void flush(Long id) {
+        // 추가가 반환되면 이미 조회 가능한 상태
+    }
+
+    @Override
+    public void flush() {
+        // 추가가 반환되면 이미 조회 가능한 상태
+    }
+
+    // 해당 사용자의 appendLock 을 잡은 상태에서만 호출
+    private void project(PointHistory pointHistory) {
+        long delta = pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+        balances.compute(pointHistory.userId(), (id, current) -> new UserPoint(id,
+                (current == null ? 0L : current.point()) + delta, pointHistory.updateMillis()));
+    }
+
+    private ReentrantLock appendLockFor(long userId) {
+        return appendLocks[stripeOf(userId)];
+    }
+
+    // 연속된 userId 가 인접 stripe 에 몰리지 않도록 비트를 섞는다.
+    private static int stripeOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (APPEND_LOCK_STRIPES - 1);
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * event-sourced 모드의 잔고 저장소: 원장의 잔고 projection 을 읽기만 합니다.
+ * - 충전/사용은 원장에 내역을 추가하며 잔고를 갱신하므로(optimistic 실행 방식의 충돌 확인 포함) 이 저장소에 잔고를 저장하지 않습니다.
+ * - shard 사용자(point.sharded.users)는 shard 합계를 잔고로 직접 저장하므로 함께 설정하면 시작 시 실패합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.persistence.mode", havingValue = "event-sourced")
+public class ProjectedUserPointRepository implements UserPointRepository {
+
+    private final EventSourcedPointLedger pointLedger;
+
+    public ProjectedUserPointRepository(EventSourcedPointLedger pointLedger,
+                                        @Value("${point.sharded.users:}") List<Long> shardedUsers) {
+        if (!shardedUsers.isEmpty()) {
+            // shard 합계는 내역 없이 잔고로만 저장되는데 projection 은 내역으로만 바뀐다.
+            throw new IllegalStateException("event-sourced 모드는 point.sharded.users 와 함께 사용할 수 없습니다. (shard 합계를 잔고로 직접 저장함)");
+        }
+        this.pointLedger = pointLedger;
+    }
+
+    @Override
+    public UserPoint findById(Long id) {
+        return pointLedger.balanceOf(id);
+    }
+
+    // 위 조건으로 잔고를 직접 저장하는 경로가 없으므로 호출되면 설정 오류다.
+    @Override
+    public UserPoint save(UserPoint userPoint) {
+        throw new IllegalStateException("event-sourced 모드에서는 잔고가 원장의 내역으로만 갱신됩니다. - userId: " + userPoint.id());
+    }
+
+    @Override
+    public boolean compareAndSave(UserPoint expected, UserPoint updated) {
+        throw new IllegalStateException("event-sourced 모드에서는 잔고가 원장의 내역으로만 갱신됩니다. - userId: " + updated.id());
+    }
+}
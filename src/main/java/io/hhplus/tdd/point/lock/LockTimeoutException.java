@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 정해진 시간 안에 사용자 Lock 을 얻지 못했을 때 발생합니다. (HTTP 503)
+ */
+public class LockTimeoutException extends RuntimeException {
+
+    public LockTimeoutException(long userId) {
+        super("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요. - userId: " + userId, null, false, false);
+    }
+}
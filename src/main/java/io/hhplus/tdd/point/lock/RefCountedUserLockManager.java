@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 Lock 을 참조 카운트로 관리하는 방식
+ * - Lock 을 사용 중이거나 기다리는 스레드가 있는 동안만 맵에 유지하고, 마지막 사용자가 반납하면 제거합니다.
+ * - 메모리는 동시에 처리 중인 사용자 수에 비례하며, 사용자 간 Lock 공유가 없습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.lock.mode", havingValue = "ref-counted")
+public class RefCountedUserLockManager implements UserLockManager {
+
+    private final ConcurrentHashMap<Long, RefCountedLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        RefCountedLock refCountedLock = acquire(userId);
+        refCountedLock.lock.lock();
+        try {
+            return action.get();
+        } finally {
+            refCountedLock.lock.unlock();
+            release(userId);
+        }
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, long timeout, TimeUnit unit, Supplier<T> action) {
+        RefCountedLock refCountedLock = acquire(userId);
+        boolean locked = false;
+        try {
+            locked = StripedUserLockManager.tryLock(refCountedLock.lock, timeout, unit);
+            if (!locked) {
+                throw new LockTimeoutException(userId);
+            }
+            return action.get();
+        } finally {
+            if (locked) {
+                refCountedLock.lock.unlock();
+            }
+            release(userId);
+        }
+    }
+
+    @Override
+    public int activeLocks() {
+        return locks.size();
+    }
+
+    @Override
+    public int waitingThreads() {
+        int waiting = 0;
+        for (RefCountedLock refCountedLock : locks.values()) {
+            waiting += refCountedLock.lock.getQueueLength();
+        }
+        return waiting;
+    }
+
+    // 참조 카운트는 compute 안에서만 변경되므로 키 단위로 원자적으로 증감된다.
+    private RefCountedLock acquire(long userId) {
+        return locks.compute(userId, (id, lock) -> {
+            RefCountedLock acquired = lock == null ? new RefCountedLock() : lock;
+            acquired.references++;
+            return acquired;
+        });
+    }
+
+    private void release(long userId) {
+        locks.computeIfPresent(userId, (id, lock) -> --lock.references == 0 ? null : lock);
+    }
+
+    private static class RefCountedLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int references;
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 고정 크기 Lock 배열(stripe)에 userId 를 해시해서 Lock 을 고르는 방식
+ * - 사용자 수와 무관하게 메모리가 stripe 수로 고정됩니다.
+ * - 서로 다른 사용자가 같은 stripe 에 배정되면 함께 직렬화되므로 stripe 수는 동시 요청 수보다 충분히 크게 잡습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.lock.mode", havingValue = "striped", matchIfMissing = true)
+public class StripedUserLockManager implements UserLockManager {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedUserLockManager(@Value("${point.lock.stripes:1024}") int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripe 수는 0 보다 커야 합니다.");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1; // 2의 거듭제곱으로 올림
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T executeWithLock(long userId, long timeout, TimeUnit unit, Supplier<T> action) {
+        ReentrantLock lock = lockFor(userId);
+        if (!tryLock(lock, timeout, unit)) {
+            throw new LockTimeoutException(userId);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+    @Override
+    public int activeLocks() {
+        int active = 0;
+        for (ReentrantLock lock : locks) {
+            if (lock.isLocked()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    @Override
+    public int waitingThreads() {
+        int waiting = 0;
+        for (ReentrantLock lock : locks) {
+            waiting += lock.getQueueLength();
+        }
+        return waiting;
+    }
+
+    static boolean tryLock(ReentrantLock lock, long timeout, TimeUnit unit) {
+        try {
+            return lock.tryLock(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lock 획득 대기가 중단되었습니다.", e);
+        }
+    }
+
+    private ReentrantLock lockFor(long userId) {
+        // 연속된 userId 가 인접 stripe 에 몰리지 않도록 비트를 섞는다.
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return locks[(int) (hash >>> 32) & mask];
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 사용자(userId) 단위 Lock 관리
+ * - 같은 사용자에 대한 작업은 한 번에 하나씩만 실행되고, 다른 사용자의 작업은 병렬로 실행될 수 있습니다.
+ * - point.lock.mode 설정으로 구현체를 선택합니다. (striped: 고정 크기 Lock 배열, ref-counted: 사용 중인 Lock 만 유지)
+ */
+public interface UserLockManager {
+
+    <T> T executeWithLock(long userId, Supplier<T> action);
+
+    // timeout 안에 Lock 을 얻지 못하면 실행하지 않고 LockTimeoutException 을 던진다.
+    <T> T executeWithLock(long userId, long timeout, TimeUnit unit, Supplier<T> action);
+
+    // 현재 보유 중이거나 대기 중인 스레드가 있는 Lock 수
+    int activeLocks();
+
+    // Lock 획득을 기다리는 스레드 수 (모니터링용 추정치)
+    int waitingThreads();
+}
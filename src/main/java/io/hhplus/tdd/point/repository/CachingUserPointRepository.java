@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * UserPointTable 앞단의 잔고 캐시 (read-through / write-through)
+ * - 조회 시 캐시에 없으면 테이블에서 읽어 적재하고, 저장 시 테이블에 기록한 결과로 캐시를 갱신합니다.
+ * - 락 경합을 줄이기 위해 userId 해시로 나눈 세그먼트마다 LRU 로 크기를 제한합니다.
+ */
+@Primary
+@Component
+@ConditionalOnMemoryPersistence
+public class CachingUserPointRepository implements UserPointRepository {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int COMPARE_AND_SAVE_STRIPES = 256;
+
+    private final UserPointRepository delegate;
+    private final LruSegment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    // 테이블 저장과 캐시 갱신 순서가 사용자별로 뒤바뀌지 않도록 조회-비교-저장을 묶는다.
+    private final UserLockManager compareAndSaveLocks = new StripedUserLockManager(COMPARE_AND_SAVE_STRIPES);
+
+    public CachingUserPointRepository(UserPointRepositoryImpl delegate,
+                                      @Value("${point.cache.max-size:10000}") int maxSize) {
+        this((UserPointRepository) delegate, maxSize);
+    }
+
+    CachingUserPointRepository(UserPointRepository delegate, int maxSize) {
+        if (maxSize < SEGMENT_COUNT) {
+            throw new IllegalArgumentException("캐시 크기는 " + SEGMENT_COUNT + " 이상이어야 합니다.");
+        }
+        this.delegate = delegate;
+        this.segments = new LruSegment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new LruSegment(maxSize / SEGMENT_COUNT, evictionCount);
+        }
+    }
+
+    @Override
+    public UserPoint findById(Long id) {
+        LruSegment segment = segmentFor(id);
+        UserPoint cached = segment.find(id);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        UserPoint loaded = delegate.findById(id);
+        // 테이블을 읽는 동안 저장된 값이 있다면 더 최신이므로 그 값을 유지한다.
+        return segment.putIfAbsentAndGet(id, loaded);
+    }
+
+    @Override
+    public UserPoint save(UserPoint userPoint) {
+        UserPoint saved = delegate.save(userPoint);
+        segmentFor(saved.id()).store(saved.id(), saved);
+        return saved;
+    }
+
+    @Override
+    public boolean compareAndSave(UserPoint expected, UserPoint updated) {
+        return compareAndSaveLocks.executeWithLock(updated.id(), () -> {
+            if (findById(updated.id()).point() != expected.point()) {
+                return false;
+            }
+            save(updated);
+            return true;
+        });
+    }
+
+    public CacheStats stats() {
+        long size = 0;
+        for (LruSegment segment : segments) {
+            size += segment.count();
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    private LruSegment segmentFor(long id) {
+        int hash = Long.hashCode(id);
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    public record CacheStats(
+            long hitCount,
+            long missCount,
+            long evictionCount,
+            long size
+    ) {
+    }
+
+    // 접근 순서를 유지하는 LinkedHashMap 으로 구현한 LRU 세그먼트
+    private static class LruSegment extends LinkedHashMap<Long, UserPoint> {
+
+        private final int capacity;
+        private final LongAdder evictionCount;
+
+        LruSegment(int capacity, LongAdder evictionCount) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictionCount = evictionCount;
+        }
+
+        synchronized UserPoint find(long id) {
+            return get(id);
+        }
+
+        synchronized UserPoint putIfAbsentAndGet(long id, UserPoint userPoint) {
+            UserPoint existing = get(id);
+            if (existing != null) {
+                return existing;
+            }
+            put(id, userPoint);
+            return userPoint;
+        }
+
+        synchronized void store(long id, UserPoint userPoint) {
+            put(id, userPoint);
+        }
+
+        synchronized int count() {
+            return size();
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+            if (size() > capacity) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포인트 내역을 PointHistory 객체 대신 컬럼별 primitive 배열에 저장하는 저장소 (point.history.storage=columnar)
+ * - 내역 한 건당 객체 헤더와 참조 없이 약 29 byte (컬럼 25 byte + 사용자 인덱스 4 byte) 만 사용합니다.
+ * - PointHistory 는 조회 시점에만 만들어집니다.
+ * - 배열에 바로 기록하므로 저장은 호출 스레드에서 끝나고, flush 는 기다릴 것이 없습니다.
+ */
+@Component
+@ConditionalOnMemoryPersistence
+@ConditionalOnProperty(name = "point.history.storage", havingValue = "columnar")
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryColumns columns = new PointHistoryColumns();
+    // 사용자별 행 번호 인덱스 (userId -> 저장 순서대로 쌓이는 행 번호)
+    private final ConcurrentHashMap<Long, PointHistoryRowIndex> userRowIndex = new ConcurrentHashMap<>();
+    private final PointHistoryAggregates aggregates = new PointHistoryAggregates();
+    private final Object appendLock = new Object();
+
+    private final Timer findTimer;
+    private final Timer findPageTimer;
+    private final Timer findRangeTimer;
+    private final Timer summarizeTimer;
+    private final Timer saveTimer;
+
+    public ColumnarPointHistoryRepository(MeterRegistry meterRegistry) {
+        this.findTimer = repositoryTimer("find_by_user_id", meterRegistry);
+        this.findPageTimer = repositoryTimer("find_by_user_id_after", meterRegistry);
+        this.findRangeTimer = repositoryTimer("find_by_user_id_between", meterRegistry);
+        this.summarizeTimer = repositoryTimer("summarize", meterRegistry);
+        this.saveTimer = repositoryTimer("save", meterRegistry);
+    }
+
+    @Override
+    public List<PointHistory> findByUserId(Long id) {
+        return findTimer.record(() -> {
+            PointHistoryRowIndex rowIndex = userRowIndex.get(id);
+            return rowIndex == null ? List.<PointHistory>of() : materialize(rowIndex.toArray());
+        });
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdAfter(Long id, long cursor, int limit) {
+        return findPageTimer.record(() -> {
+            PointHistoryRowIndex rowIndex = userRowIndex.get(id);
+            // id = 행 번호 + 첫 id 이므로 id 가 cursor 보다 큰 첫 행은 (cursor - 첫 id + 1) 번째 행
+            long firstId = columns.idOf(0);
+            long fromRow = cursor < firstId ? 0L : cursor - firstId + 1L;
+            if (rowIndex == null || fromRow >= Integer.MAX_VALUE) {
+                return List.<PointHistory>of();
+            }
+            return materialize(rowIndex.from((int) fromRow, limit));
+        });
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdBetween(Long id, long from, long to) {
+        return findRangeTimer.record(() -> {
+            PointHistoryRowIndex rowIndex = userRowIndex.get(id);
+            return rowIndex == null ? List.<PointHistory>of() : materialize(rowIndex.between(columns::updateMillisOf, from, to));
+        });
+    }
+
+    // 저장된 순서(id 순서)대로 전달
+    @Override
+    public void forEachBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException {
+        columns.forEachBetween(from, to, visitor);
+    }
+
+    @Override
+    public List<PointSummaryBucket> summarize(Long id, PointSummaryInterval interval, long from, long to) {
+        return summarizeTimer.record(() -> aggregates.summarize(id, interval, from, to));
+    }
+
+    @Override
+    public PointHistory save(PointHistory pointHistory) {
+        return saveTimer.record(() -> {
+            synchronized (appendLock) {
+                return append(pointHistory);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<PointHistory> saveAsync(PointHistory pointHistory) {
+        try {
+            return CompletableFuture.completedFuture(save(pointHistory));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> saveAllAsync(List<PointHistory> pointHistories) {
+        try {
+            return CompletableFuture.completedFuture(saveAll(pointHistories));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 모든 내역을 추가할 수 있는지 먼저 확인한 뒤 한 번의 Lock 안에서 추가한다. (일부만 추가되지 않는다.)
+    public List<PointHistory> saveAll(List<PointHistory> pointHistories) {
+        return saveTimer.record(() -> {
+            for (PointHistory pointHistory : pointHistories) {
+                if (pointHistory.type() == null) {
+                    throw new IllegalArgumentException("거래 유형이 없습니다.");
+                }
+            }
+            List<PointHistory> result = new ArrayList<>(pointHistories.size());
+            synchronized (appendLock) {
+                if (Integer.MAX_VALUE - columns.size() < pointHistories.size()) {
+                    throw new IllegalStateException("포인트 내역 저장 공간이 가득 찼습니다.");
+                }
+                for (PointHistory pointHistory : pointHistories) {
+                    result.add(append(pointHistory));
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public void flush(Long id) {
+        // 저장 호출이 반환되면 이미 조회 가능한 상태
+    }
+
+    @Override
+    public void flush() {
+        // 저장 호출이 반환되면 이미 조회 가능한 상태
+    }
+
+    // 저장된 전체 내역 수
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * 첫 내역이 받을 id 를 정합니다. (기본 1, 내역을 저장하기 전에만 호출할 수 있습니다.)
+     * - 앞선 id 의 내역을 다른 저장소가 보관하는 경우(WAL archive 복구 등) 이어지는 id 를 부여하기 위해 사용합니다.
+     */
+    public void startIdsAt(long firstId) {
+        synchronized (appendLock) {
+            columns.startIdsAt(firstId);
+        }
+    }
+
+    // 다음에 저장될 내역이 받을 id
+    public long nextId() {
+        return columns.nextId();
+    }
+
+    // appendLock 을 잡은 상태에서만 호출
+    private PointHistory append(PointHistory pointHistory) {
+        int row = columns.append(pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+        userRowIndex.computeIfAbsent(pointHistory.userId(), id -> new PointHistoryRowIndex()).add(row, pointHistory.updateMillis());
+        aggregates.add(pointHistory);
+        return new PointHistory(columns.idOf(row), pointHistory.userId(), pointHistory.amount(),
+                pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    private List<PointHistory> materialize(int[] rows) {
+        List<PointHistory> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(columns.read(row));
+        }
+        return result;
+    }
+
+    private static Timer repositoryTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("point.repository")
+                .description("포인트 저장소 호출 소요 시간")
+                .tag("repository", "point_history")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메모리 저장 방식(point.persistence.mode=memory, 기본값)에서만 등록되는 저장소
+ * - 저장 방식별 조건(point.history.storage 등)과 함께 쓸 수 있도록 별도 어노테이션으로 분리했습니다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@ConditionalOnProperty(name = "point.persistence.mode", havingValue = "memory", matchIfMissing = true)
+public @interface ConditionalOnMemoryPersistence {
+}
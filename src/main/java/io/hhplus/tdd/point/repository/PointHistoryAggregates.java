@@ -0,0 +1,182 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 충전/사용 합계를 시간/일 구간 단위로 미리 집계합니다.
+ * - 내역을 저장할 때마다 내역이 속한 구간의 합계만 갱신하므로, 조회 비용은 내역 수가 아닌 구간 수에 비례합니다.
+ * - 구간은 서버 시간대 기준으로 나눕니다.
+ */
+class PointHistoryAggregates {
+
+    private static final long HOUR_MILLIS = 3_600_000L;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+    private final ZoneId zone;
+    private final ConcurrentHashMap<Long, UserAggregates> userAggregates = new ConcurrentHashMap<>();
+    // 마지막으로 계산한 하루의 시작/끝 (대부분의 내역은 오늘 저장되므로 매번 시간대 규칙을 계산하지 않는다.)
+    private volatile Day lastDay = new Day(0L, 0L);
+
+    PointHistoryAggregates() {
+        this(ZoneId.systemDefault());
+    }
+
+    PointHistoryAggregates(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    void add(PointHistory pointHistory) {
+        long millis = pointHistory.updateMillis();
+        userAggregates.computeIfAbsent(pointHistory.userId(), id -> new UserAggregates())
+                .add(hourStart(millis), dayStart(millis), pointHistory.type(), pointHistory.amount());
+    }
+
+    // from 이 속한 구간부터 to 이전에 시작하는 구간까지
+    List<PointSummaryBucket> summarize(long userId, PointSummaryInterval interval, long from, long to) {
+        UserAggregates aggregates = userAggregates.get(userId);
+        if (aggregates == null) {
+            return List.of();
+        }
+        return switch (interval) {
+            case HOUR -> aggregates.summarizeHours(hourStart(from), to);
+            case DAY -> aggregates.summarizeDays(dayStart(from), to);
+        };
+    }
+
+    private long hourStart(long millis) {
+        long offsetMillis = zone.getRules().getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000L;
+        return Math.floorDiv(millis + offsetMillis, HOUR_MILLIS) * HOUR_MILLIS - offsetMillis;
+    }
+
+    private long dayStart(long millis) {
+        Day day = lastDay;
+        if (millis >= day.start() && millis < day.end()) {
+            return day.start();
+        }
+        long offsetMillis = zone.getRules().getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000L;
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(millis + offsetMillis, DAY_MILLIS));
+        day = new Day(date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        lastDay = day;
+        return day.start();
+    }
+
+    private record Day(long start, long end) {
+    }
+
+    private static class UserAggregates {
+
+        private final BucketSeries hours = new BucketSeries();
+        private final BucketSeries days = new BucketSeries();
+
+        synchronized void add(long hourStart, long dayStart, TransactionType type, long amount) {
+            hours.add(hourStart, type, amount);
+            days.add(dayStart, type, amount);
+        }
+
+        synchronized List<PointSummaryBucket> summarizeHours(long from, long to) {
+            return hours.range(from, to);
+        }
+
+        synchronized List<PointSummaryBucket> summarizeDays(long from, long to) {
+            return days.range(from, to);
+        }
+    }
+
+    /**
+     * 구간 시작 시각 순으로 정렬된 컬럼별 primitive 배열
+     * - 내역은 대부분 시간 순서대로 저장되므로 마지막 구간을 갱신하거나 뒤에 추가하고, 늦게 도착한 내역만 이진 탐색으로 찾아 넣습니다.
+     */
+    private static class BucketSeries {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] starts = new long[INITIAL_CAPACITY];
+        private long[] chargeAmounts = new long[INITIAL_CAPACITY];
+        private long[] chargeCounts = new long[INITIAL_CAPACITY];
+        private long[] useAmounts = new long[INITIAL_CAPACITY];
+        private long[] useCounts = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long start, TransactionType type, long amount) {
+            int index;
+            if (size > 0 && starts[size - 1] == start) {
+                index = size - 1;
+            } else if (size == 0 || starts[size - 1] < start) {
+                index = insert(size, start);
+            } else {
+                index = firstIndexFrom(start);
+                if (index == size || starts[index] != start) {
+                    index = insert(index, start);
+                }
+            }
+            if (type == TransactionType.CHARGE) {
+                chargeAmounts[index] += amount;
+                chargeCounts[index]++;
+            } else {
+                useAmounts[index] += amount;
+                useCounts[index]++;
+            }
+        }
+
+        List<PointSummaryBucket> range(long from, long to) {
+            List<PointSummaryBucket> result = new ArrayList<>();
+            for (int i = firstIndexFrom(from); i < size && starts[i] < to; i++) {
+                result.add(new PointSummaryBucket(starts[i], chargeAmounts[i], chargeCounts[i], useAmounts[i], useCounts[i]));
+            }
+            return result;
+        }
+
+        private int insert(int index, long start) {
+            if (size == starts.length) {
+                int capacity = starts.length * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                chargeAmounts = Arrays.copyOf(chargeAmounts, capacity);
+                chargeCounts = Arrays.copyOf(chargeCounts, capacity);
+                useAmounts = Arrays.copyOf(useAmounts, capacity);
+                useCounts = Arrays.copyOf(useCounts, capacity);
+            }
+            int moved = size - index;
+            if (moved > 0) {
+                System.arraycopy(starts, index, starts, index + 1, moved);
+                System.arraycopy(chargeAmounts, index, chargeAmounts, index + 1, moved);
+                System.arraycopy(chargeCounts, index, chargeCounts, index + 1, moved);
+                System.arraycopy(useAmounts, index, useAmounts, index + 1, moved);
+                System.arraycopy(useCounts, index, useCounts, index + 1, moved);
+            }
+            starts[index] = start;
+            chargeAmounts[index] = 0L;
+            chargeCounts[index] = 0L;
+            useAmounts[index] = 0L;
+            useCounts[index] = 0L;
+            size++;
+            return index;
+        }
+
+        // 시작 시각이 from 이상인 첫 구간의 위치
+        private int firstIndexFrom(long from) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < from) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 포인트 내역을 컬럼별 primitive 배열에 나눠 저장하는 append-only 저장 공간
+ * - 고정 크기 chunk 단위로 늘어나므로 증설 시 기존 데이터를 복사하지 않습니다.
+ * - 내역 id 는 행 번호 + 첫 id 이므로 따로 저장하지 않습니다. (첫 id 는 기본 1)
+ * - append 는 한 번에 한 스레드만 호출해야 하고, 조회는 size 이내의 행에 대해 Lock 없이 가능합니다.
+ * - chunk 마다 updateMillis 의 최소/최대값을 두어 기간으로 훑을 때 겹치지 않는 chunk 는 건너뜁니다.
+ */
+class PointHistoryColumns {
+
+    static final int CHUNK_SHIFT = 16;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // chunk 당 행 수
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private long[][] userIds = new long[0][];
+    private long[][] amounts = new long[0][];
+    private long[][] updateMillis = new long[0][];
+    private byte[][] types = new byte[0][];
+    private long[] chunkMinMillis = new long[0];
+    private long[] chunkMaxMillis = new long[0];
+    private long firstId = 1L; // 첫 행이 기록되기 전에만 바뀌고, 이후 size 의 volatile 쓰기로 함께 공개된다.
+    // 기록이 끝난 행 수 (volatile 쓰기로 그 이전에 기록한 컬럼 값을 조회 스레드에 공개)
+    private volatile int size;
+
+    int append(long userId, long amount, TransactionType type, long millis) {
+        int row = size;
+        if (row == Integer.MAX_VALUE) {
+            throw new IllegalStateException("포인트 내역 저장 공간이 가득 찼습니다.");
+        }
+        int chunk = row >>> CHUNK_SHIFT;
+        if (chunk == userIds.length) {
+            addChunk();
+        }
+        int offset = row & CHUNK_MASK;
+        userIds[chunk][offset] = userId;
+        amounts[chunk][offset] = amount;
+        updateMillis[chunk][offset] = millis;
+        types[chunk][offset] = (byte) type.ordinal();
+        chunkMinMillis[chunk] = Math.min(chunkMinMillis[chunk], millis);
+        chunkMaxMillis[chunk] = Math.max(chunkMaxMillis[chunk], millis);
+        size = row + 1;
+        return row;
+    }
+
+    PointHistory read(int row) {
+        if (row >= size) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        int chunk = row >>> CHUNK_SHIFT;
+        int offset = row & CHUNK_MASK;
+        return new PointHistory(
+                idOf(row),
+                userIds[chunk][offset],
+                amounts[chunk][offset],
+                TYPES[types[chunk][offset]],
+                updateMillis[chunk][offset]
+        );
+    }
+
+    // 호출 시점까지 기록된 행 중 updateMillis 가 from 이상 to 미만인 행을 순서대로 전달 (객체를 만들지 않는다.)
+    void forEachBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException {
+        int rows = size;
+        for (int chunkStart = 0; chunkStart < rows; chunkStart += CHUNK_SIZE) {
+            int chunk = chunkStart >>> CHUNK_SHIFT;
+            if (chunkMaxMillis[chunk] < from || chunkMinMillis[chunk] >= to) {
+                continue;
+            }
+            long[] chunkMillis = updateMillis[chunk];
+            int chunkRows = Math.min(rows - chunkStart, CHUNK_SIZE);
+            for (int offset = 0; offset < chunkRows; offset++) {
+                long millis = chunkMillis[offset];
+                if (millis >= from && millis < to) {
+                    visitor.visit(idOf(chunkStart + offset), userIds[chunk][offset], amounts[chunk][offset],
+                            TYPES[types[chunk][offset]], millis);
+                }
+            }
+            if (chunkStart > Integer.MAX_VALUE - CHUNK_SIZE) {
+                break;
+            }
+        }
+    }
+
+    long updateMillisOf(int row) {
+        if (row >= size) {
+            throw new IndexOutOfBoundsException(row);
+        }
+        return updateMillis[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long idOf(int row) {
+        return firstId + row;
+    }
+
+    // 첫 행의 id 를 정한다. (행이 기록되기 전에만 호출)
+    void startIdsAt(long firstId) {
+        if (size > 0) {
+            throw new IllegalStateException("이미 내역이 저장되어 첫 id 를 바꿀 수 없습니다.");
+        }
+        if (firstId < 1L) {
+            throw new IllegalArgumentException("첫 내역 id 는 1 이상이어야 합니다.");
+        }
+        this.firstId = firstId;
+    }
+
+    // 다음에 기록될 행이 받을 id
+    long nextId() {
+        return firstId + size;
+    }
+
+    private void addChunk() {
+        int chunks = userIds.length + 1;
+        userIds = Arrays.copyOf(userIds, chunks);
+        amounts = Arrays.copyOf(amounts, chunks);
+        updateMillis = Arrays.copyOf(updateMillis, chunks);
+        types = Arrays.copyOf(types, chunks);
+        chunkMinMillis = Arrays.copyOf(chunkMinMillis, chunks);
+        chunkMaxMillis = Arrays.copyOf(chunkMaxMillis, chunks);
+        chunkMinMillis[chunks - 1] = Long.MAX_VALUE;
+        chunkMaxMillis[chunks - 1] = Long.MIN_VALUE;
+        userIds[chunks - 1] = new long[CHUNK_SIZE];
+        amounts[chunks - 1] = new long[CHUNK_SIZE];
+        updateMillis[chunks - 1] = new long[CHUNK_SIZE];
+        types[chunks - 1] = new byte[CHUNK_SIZE];
+    }
+}
@@ -1,11 +1,39 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface PointHistoryRepository {
     List<PointHistory> findByUserId(Long id);
+
+    // cursor(내역 id) 이후의 내역을 저장된 순서대로 최대 limit 건 조회
+    List<PointHistory> findByUserIdAfter(Long id, long cursor, int limit);
+
+    // updateMillis 가 from 이상 to 미만인 내역을 저장된 순서대로 조회
+    List<PointHistory> findByUserIdBetween(Long id, long from, long to);
+
+    // 전체 사용자의 내역 중 updateMillis 가 from 이상 to 미만인 내역을 목록으로 모으지 않고 한 건씩 전달 (대량 내보내기)
+    // 전달 순서는 저장소마다 다르다: 컬럼형 저장소(columnar, wal, event-sourced)는 전체 id 순서, 테이블 저장소는 사용자별 id 순서
+    void forEachBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException;
     PointHistory save (PointHistory pointHistory);
-}
 
+    // 저장 시점에 미리 집계한 구간별 충전/사용 합계 조회 (from 이 속한 구간부터 to 이전에 시작하는 구간까지)
+    List<PointSummaryBucket> summarize(Long id, PointSummaryInterval interval, long from, long to);
+
+    // 내역을 저장 큐에 적재하고 즉시 반환 (저장이 끝나면 future 가 완료된다)
+    CompletableFuture<PointHistory> saveAsync(PointHistory pointHistory);
+
+    // 여러 내역을 순서대로 한 번에 적재 (모든 내역이 저장되면 future 가 완료된다)
+    CompletableFuture<List<PointHistory>> saveAllAsync(List<PointHistory> pointHistories);
+
+    // 해당 사용자의 대기 중인 내역이 모두 저장될 때까지 대기 (read-your-writes 가 필요한 경우)
+    void flush(Long id);
+
+    // 호출 시점까지 적재된 모든 내역이 저장될 때까지 대기
+    void flush();
+}
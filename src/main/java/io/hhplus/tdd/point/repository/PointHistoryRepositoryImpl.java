@@ -2,31 +2,280 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * 포인트 내역 저장소
+ * - 저장 요청은 사용자별 큐에 적재되고, 전용 writer 스레드 하나가 사용자마다 한 건씩 돌아가며 꺼내 테이블에 기록합니다.
+ *   (한 사용자의 요청이 몰려도 다른 사용자의 내역이 그 뒤에서 기다리지 않으며, 같은 사용자의 내역은 적재 순서대로 기록됩니다.)
+ * - PointHistoryTable 은 동기화되어 있지 않으므로 테이블 쓰기는 항상 writer 스레드에서만 일어납니다.
+ */
 @Component
+@ConditionalOnMemoryPersistence
+@ConditionalOnProperty(name = "point.history.storage", havingValue = "table", matchIfMissing = true)
 public class PointHistoryRepositoryImpl implements PointHistoryRepository{
 
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryRepositoryImpl.class);
+    private static final int QUEUE_CAPACITY = 10_000; // 전체 사용자에 대해 적재 가능한 최대 내역 수 (가득 차면 저장 요청이 대기)
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
     private final PointHistoryTable pointHistoryTable;
+    // 사용자별 내역 인덱스 (userId -> 저장 순서대로 쌓이는 세그먼트)
+    private final ConcurrentHashMap<Long, PointHistorySegment> userHistoryIndex = new ConcurrentHashMap<>();
+    // 사용자별 마지막으로 적재된 저장 요청 (flush(userId) 에서 대기 대상)
+    private final ConcurrentHashMap<Long, CompletableFuture<PointHistory>> lastPendingByUser = new ConcurrentHashMap<>();
+    // 사용자별 기록 대기 큐와 기록할 내역이 있는 사용자 순서 (큐가 있는 사용자는 readyUsers 에 한 번만 들어 있다.)
+    private final ConcurrentHashMap<Long, ArrayDeque<PendingHistory>> pendingByUser = new ConcurrentHashMap<>();
+    private final BlockingQueue<Long> readyUsers = new LinkedBlockingQueue<>();
+    private final Semaphore capacity = new Semaphore(QUEUE_CAPACITY);
+    // 종료 여부 확인과 적재는 read lock, 종료 표시는 write lock (종료 후 적재되어 기록되지 않는 요청이 없도록)
+    private final ReentrantReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    // 사용자별 구간 합계 (writer 스레드가 테이블에 기록한 내역만 반영)
+    private final PointHistoryAggregates aggregates = new PointHistoryAggregates();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Timer findTimer;
+    private final Timer findPageTimer;
+    private final Timer findRangeTimer;
+    private final Timer summarizeTimer;
+    private final Timer saveTimer; // 저장 요청 적재부터 테이블 기록 완료까지
+    private final Timer flushTimer;
+    private final Timer insertTimer; // writer 스레드의 테이블 insert 호출
 
-    public PointHistoryRepositoryImpl(PointHistoryTable pointHistoryTable) {
+    public PointHistoryRepositoryImpl(PointHistoryTable pointHistoryTable, MeterRegistry meterRegistry) {
         this.pointHistoryTable = pointHistoryTable;
+        this.findTimer = repositoryTimer("find_by_user_id", meterRegistry);
+        this.findPageTimer = repositoryTimer("find_by_user_id_after", meterRegistry);
+        this.findRangeTimer = repositoryTimer("find_by_user_id_between", meterRegistry);
+        this.summarizeTimer = repositoryTimer("summarize", meterRegistry);
+        this.saveTimer = repositoryTimer("save", meterRegistry);
+        this.flushTimer = repositoryTimer("flush", meterRegistry);
+        this.insertTimer = Timer.builder("point.table")
+                .description("포인트 내역 테이블 호출 소요 시간")
+                .tag("table", "point_history")
+                .tag("operation", "insert")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("point.history.queue.size", capacity, permits -> QUEUE_CAPACITY - permits.availablePermits())
+                .description("기록을 기다리는 포인트 내역 수")
+                .register(meterRegistry);
+        this.writer = new Thread(this::drain, "point-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
     }
 
+    // 테이블 전체를 훑는 selectAllByUserId 대신 사용자별 인덱스에서 조회
     @Override
     public List<PointHistory> findByUserId(Long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        return findTimer.record(() -> {
+            PointHistorySegment segment = userHistoryIndex.get(id);
+            if (segment == null) {
+                return List.<PointHistory>of();
+            }
+            return segment.toList();
+        });
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdAfter(Long id, long cursor, int limit) {
+        return findPageTimer.record(() -> {
+            PointHistorySegment segment = userHistoryIndex.get(id);
+            if (segment == null) {
+                return List.<PointHistory>of();
+            }
+            return segment.after(cursor, limit);
+        });
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdBetween(Long id, long from, long to) {
+        return findRangeTimer.record(() -> {
+            PointHistorySegment segment = userHistoryIndex.get(id);
+            if (segment == null) {
+                return List.<PointHistory>of();
+            }
+            return segment.between(from, to);
+        });
+    }
+
+    // 사용자별로 저장 순서(id 순서)대로 전달 (사용자 사이의 순서는 정해져 있지 않으며, 전체 id 순서가 아님)
+    // 각 사용자 세그먼트를 복사하지 않고 읽고, updateMillis 가 오름차순인 세그먼트는 이진 탐색한 기간만 읽는다.
+    @Override
+    public void forEachBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException {
+        for (PointHistorySegment segment : userHistoryIndex.values()) {
+            segment.forEachBetween(from, to, visitor);
+        }
+    }
+
+    @Override
+    public List<PointSummaryBucket> summarize(Long id, PointSummaryInterval interval, long from, long to) {
+        return summarizeTimer.record(() -> aggregates.summarize(id, interval, from, to));
     }
 
     @Override
     public PointHistory save(PointHistory pointHistory) {
-        return pointHistoryTable.insert(
-                pointHistory.userId(),
-                pointHistory.amount(),
-                pointHistory.type(),
-                pointHistory.updateMillis()
-        );
+        try {
+            return saveAsync(pointHistory).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 종료 후에는 적재하지 않고 실패한 future 를 반환
+    @Override
+    public CompletableFuture<PointHistory> saveAsync(PointHistory pointHistory) {
+        CompletableFuture<PointHistory> future = new CompletableFuture<>();
+        enqueue(new PendingHistory(pointHistory, future, System.nanoTime()));
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> saveAllAsync(List<PointHistory> pointHistories) {
+        List<CompletableFuture<PointHistory>> futures = new ArrayList<>(pointHistories.size());
+        for (PointHistory pointHistory : pointHistories) {
+            futures.add(saveAsync(pointHistory));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    @Override
+    public void flush(Long id) {
+        CompletableFuture<PointHistory> pending = lastPendingByUser.get(id);
+        if (pending != null) {
+            flushTimer.record(() -> pending.exceptionally(e -> null).join());
+        }
+    }
+
+    // 사용자별 큐는 적재 순서대로 기록되므로 각 사용자의 마지막 저장 요청이 끝나면 그 이전에 적재된 내역은 모두 저장된 상태
+    @Override
+    public void flush() {
+        List<CompletableFuture<PointHistory>> pending = List.copyOf(lastPendingByUser.values());
+        flushTimer.record(() -> pending.forEach(future -> future.exceptionally(e -> null).join()));
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        writer.join();
+    }
+
+    private void enqueue(PendingHistory pending) {
+        try {
+            capacity.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future().completeExceptionally(new IllegalStateException("포인트 내역 저장 요청이 중단되었습니다.", e));
+            return;
+        }
+        shutdownLock.readLock().lock();
+        try {
+            if (!running) {
+                capacity.release();
+                pending.future().completeExceptionally(new IllegalStateException("포인트 내역 저장소가 종료되었습니다."));
+                return;
+            }
+            // 마지막 저장 요청 갱신과 사용자 큐 적재를 같은 사용자 항목의 compute 안에서 함께 처리해서 순서를 맞춘다.
+            pendingByUser.compute(pending.pointHistory().userId(), (userId, userQueue) -> {
+                if (userQueue == null) {
+                    userQueue = new ArrayDeque<>();
+                    readyUsers.add(userId);
+                }
+                userQueue.add(pending);
+                lastPendingByUser.put(userId, pending.future());
+                return userQueue;
+            });
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+    }
+
+    // writer 스레드: 기록할 내역이 있는 사용자를 돌아가며 한 건씩 기록하고, 종료 요청 이후에도 남은 내역은 모두 기록한 뒤 종료
+    private void drain() {
+        while (running || !readyUsers.isEmpty()) {
+            try {
+                Long userId = readyUsers.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (userId == null) {
+                    continue;
+                }
+                PendingHistory[] next = new PendingHistory[1];
+                boolean remaining = pendingByUser.compute(userId, (id, userQueue) -> {
+                    next[0] = userQueue.poll();
+                    return userQueue.isEmpty() ? null : userQueue;
+                }) != null;
+                write(next[0]);
+                if (remaining) {
+                    readyUsers.add(userId); // 남은 내역은 다른 사용자 다음 차례에 기록
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(PendingHistory pending) {
+        PointHistory pointHistory = pending.pointHistory();
+        try {
+            PointHistory saved = insertTimer.record(() -> pointHistoryTable.insert(
+                    pointHistory.userId(),
+                    pointHistory.amount(),
+                    pointHistory.type(),
+                    pointHistory.updateMillis()
+            ));
+            userHistoryIndex.computeIfAbsent(saved.userId(), id -> new PointHistorySegment()).append(saved);
+            aggregates.add(saved);
+            saveTimer.record(System.nanoTime() - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            pending.future().complete(saved);
+        } catch (RuntimeException e) {
+            log.error("포인트 내역 저장 실패 - {}", pointHistory, e);
+            pending.future().completeExceptionally(e);
+        } finally {
+            lastPendingByUser.remove(pointHistory.userId(), pending.future());
+            capacity.release();
+        }
+    }
+
+    private static Timer repositoryTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("point.repository")
+                .description("포인트 저장소 호출 소요 시간")
+                .tag("repository", "point_history")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record PendingHistory(PointHistory pointHistory, CompletableFuture<PointHistory> future, long enqueuedNanos) {
     }
 }
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 한 사용자의 내역이 저장된 행 번호 목록 (오름차순)
+ * - 행 번호를 int 배열로만 보관하므로 내역 한 건당 4 byte 를 사용합니다.
+ * - updateMillis 는 따로 보관하지 않고 컬럼에서 읽으며, 오름차순인 동안은 기간 조회를 이진 탐색으로 처리합니다.
+ */
+class PointHistoryRowIndex {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] rows = new int[INITIAL_CAPACITY];
+    private int size;
+    private long lastMillis = Long.MIN_VALUE;
+    private boolean timeOrdered = true; // 지금까지 추가된 행이 updateMillis 오름차순인지
+
+    synchronized void add(int row, long millis) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, rows.length * 2);
+        }
+        rows[size++] = row;
+        if (millis < lastMillis) {
+            timeOrdered = false;
+        }
+        lastMillis = Math.max(lastMillis, millis);
+    }
+
+    synchronized int[] toArray() {
+        return Arrays.copyOf(rows, size);
+    }
+
+    // updateMillis 가 from 이상 to 미만인 행 (순서가 어긋난 행이 있으면 이 사용자의 행만 훑는다.)
+    synchronized int[] between(IntToLongFunction millisOf, long from, long to) {
+        if (!timeOrdered) {
+            return Arrays.stream(rows, 0, size)
+                    .filter(row -> millisOf.applyAsLong(row) >= from && millisOf.applyAsLong(row) < to)
+                    .toArray();
+        }
+        return Arrays.copyOfRange(rows, firstIndexAtOrAfter(millisOf, from), firstIndexAtOrAfter(millisOf, to));
+    }
+
+    private int firstIndexAtOrAfter(IntToLongFunction millisOf, long millis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (millisOf.applyAsLong(rows[mid]) < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // fromRow 이상인 첫 행부터 최대 limit 개
+    synchronized int[] from(int fromRow, int limit) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows[mid] < fromRow) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int to = (int) Math.min((long) low + limit, size);
+        return Arrays.copyOfRange(rows, low, to);
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.IOException;
+
+/**
+ * 전체 내역을 훑을 때 내역 한 건을 PointHistory 객체로 만들지 않고 컬럼 값 그대로 전달받습니다.
+ */
+@FunctionalInterface
+public interface PointHistoryRowVisitor {
+
+    void visit(long id, long userId, long amount, TransactionType type, long updateMillis) throws IOException;
+}
@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 사용자의 포인트 내역을 저장된 순서대로 보관하는 append-only 세그먼트
+ * - 조회 비용은 전체 내역 수가 아닌 해당 사용자의 내역 수에 비례합니다.
+ * - 내역은 하나의 writer 가 id 순서대로 추가하므로 id 오름차순이 유지됩니다.
+ * - updateMillis 도 오름차순인 동안은 기간 조회를 이진 탐색으로 처리하고, 순서가 어긋난 내역이 들어오면 이 사용자의 내역만 훑습니다.
+ * - append 는 한 번에 한 스레드만 호출해야 하고, 조회는 size 이내의 내역에 대해 Lock 없이 가능합니다. (배열은 늘어날 때 새 배열로 교체)
+ */
+class PointHistorySegment {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private volatile PointHistory[] entries = new PointHistory[INITIAL_CAPACITY];
+    private volatile boolean timeOrdered = true; // 지금까지 추가된 내역이 updateMillis 오름차순인지
+    // 기록이 끝난 내역 수 (volatile 쓰기로 그 이전에 기록한 배열과 내역을 조회 스레드에 공개)
+    private volatile int size;
+
+    void append(PointHistory pointHistory) {
+        int index = size;
+        PointHistory[] current = entries;
+        if (index > 0 && pointHistory.updateMillis() < current[index - 1].updateMillis()) {
+            timeOrdered = false;
+        }
+        if (index == current.length) {
+            current = Arrays.copyOf(current, index * 2);
+            entries = current;
+        }
+        current[index] = pointHistory;
+        size = index + 1;
+    }
+
+    List<PointHistory> toList() {
+        int count = size;
+        return List.of(Arrays.copyOf(entries, count));
+    }
+
+    // id 가 cursor 보다 큰 첫 내역부터 최대 limit 건
+    List<PointHistory> after(long cursor, int limit) {
+        int count = size;
+        PointHistory[] snapshot = entries;
+        int from = firstIndexAfter(snapshot, count, cursor);
+        int to = (int) Math.min((long) from + limit, count);
+        return List.of(Arrays.copyOfRange(snapshot, from, to));
+    }
+
+    // updateMillis 가 from 이상 to 미만인 내역 (저장 순서대로)
+    List<PointHistory> between(long from, long to) {
+        int count = size;
+        boolean ordered = timeOrdered;
+        PointHistory[] snapshot = entries;
+        if (!ordered) {
+            return Arrays.stream(snapshot, 0, count)
+                    .filter(pointHistory -> pointHistory.updateMillis() >= from && pointHistory.updateMillis() < to)
+                    .toList();
+        }
+        return List.of(Arrays.copyOfRange(snapshot,
+                firstIndexAtOrAfter(snapshot, count, from), firstIndexAtOrAfter(snapshot, count, to)));
+    }
+
+    // between 과 같은 내역을 목록으로 복사하지 않고 저장 순서대로 전달
+    void forEachBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException {
+        int count = size;
+        boolean ordered = timeOrdered;
+        PointHistory[] snapshot = entries;
+        int start = ordered ? firstIndexAtOrAfter(snapshot, count, from) : 0;
+        int end = ordered ? firstIndexAtOrAfter(snapshot, count, to) : count;
+        for (int i = start; i < end; i++) {
+            PointHistory pointHistory = snapshot[i];
+            if (ordered || pointHistory.updateMillis() >= from && pointHistory.updateMillis() < to) {
+                visitor.visit(pointHistory.id(), pointHistory.userId(), pointHistory.amount(),
+                        pointHistory.type(), pointHistory.updateMillis());
+            }
+        }
+    }
+
+    private static int firstIndexAtOrAfter(PointHistory[] snapshot, int count, long millis) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].updateMillis() < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int firstIndexAfter(PointHistory[] snapshot, int count, long cursor) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].id() <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 포인트 내역을 유일한 원본으로 두고, 잔고는 내역을 추가할 때 함께 갱신되는 projection 으로 유지하는 저장소
+ * - 잔고 저장과 내역 저장이 따로 일어나지 않으므로 둘이 어긋나지 않습니다.
+ * - event-sourced 원장과 WAL 저장소가 구현합니다.
+ */
+public interface PointLedger {
+
+    // 현재 잔고가 expectedPoint 일 때만 내역을 순서대로 추가하고 같은 기록 안에서 잔고를 갱신한다. (다르면 ConcurrentUpdateException)
+    // 반환한 future 는 추가한 기록이 저장소에 반영되면(WAL 은 fsync 정책 기준) 완료된다.
+    CompletableFuture<Void> append(long userId, long expectedPoint, List<PointHistory> pointHistories);
+}
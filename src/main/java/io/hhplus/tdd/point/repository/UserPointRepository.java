@@ -7,4 +7,11 @@ import java.util.Optional;
 public interface UserPointRepository {
     UserPoint findById(Long id);
     UserPoint save(UserPoint userPoint);
+
+    /**
+     * 현재 잔고가 expected 의 잔고와 같을 때만 updated 로 저장하고, 저장했는지 여부를 반환합니다.
+     * - 잔고 변경은 현재 잔고에만 의존하므로 잔고 값을 버전으로 비교합니다.
+     *   (저장된 적 없는 사용자는 조회할 때마다 updateMillis 가 새로 만들어지므로 updateMillis 는 비교하지 않습니다.)
+     */
+    boolean compareAndSave(UserPoint expected, UserPoint updated);
 }
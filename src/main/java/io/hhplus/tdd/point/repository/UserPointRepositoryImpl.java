@@ -2,25 +2,58 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 import java.util.Optional;
 
 @Component
+@ConditionalOnMemoryPersistence
 public class UserPointRepositoryImpl implements UserPointRepository{
 
+    private static final int COMPARE_AND_SAVE_STRIPES = 256;
+
     private final UserPointTable userPointTable;
+    // 테이블은 원자적 비교-저장을 지원하지 않으므로 사용자별로 조회-비교-저장을 묶는다.
+    private final UserLockManager compareAndSaveLocks = new StripedUserLockManager(COMPARE_AND_SAVE_STRIPES);
+    private final Timer findTimer;
+    private final Timer saveTimer;
 
-    public UserPointRepositoryImpl(UserPointTable userPointTable) {
+    public UserPointRepositoryImpl(UserPointTable userPointTable, MeterRegistry meterRegistry) {
         this.userPointTable = userPointTable;
+        this.findTimer = repositoryTimer("find_by_id", meterRegistry);
+        this.saveTimer = repositoryTimer("save", meterRegistry);
     }
 
     @Override
     public UserPoint findById(Long id) {
-        return userPointTable.selectById(id);
+        return findTimer.record(() -> userPointTable.selectById(id));
     }
 
     @Override
     public UserPoint save(UserPoint userPoint) {
-        return userPointTable.insertOrUpdate(userPoint.id(),userPoint.point());
+        return saveTimer.record(() -> userPointTable.insertOrUpdate(userPoint.id(),userPoint.point()));
+    }
+
+    @Override
+    public boolean compareAndSave(UserPoint expected, UserPoint updated) {
+        return compareAndSaveLocks.executeWithLock(updated.id(), () -> {
+            if (findById(updated.id()).point() != expected.point()) {
+                return false;
+            }
+            save(updated);
+            return true;
+        });
+    }
+
+    private static Timer repositoryTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("point.repository")
+                .description("포인트 저장소 호출 소요 시간")
+                .tag("repository", "user_point")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.wal;
+
+/**
+ * WAL 기록을 디스크에 강제로 내려쓰는(fsync) 시점
+ */
+public enum FsyncPolicy {
+    PER_OP,       // 기록할 때마다 fsync (가장 안전, 가장 느림)
+    GROUP_COMMIT, // 일정 간격마다 그 사이에 쌓인 기록을 한 번에 fsync 하고, 기다리던 요청을 함께 완료
+    NONE;         // fsync 하지 않음 (프로세스 종료에는 안전하지만 OS 장애 시 최근 기록이 유실될 수 있음)
+
+    // 설정 값(per-op, group-commit, none)을 정책으로 변환
+    public static FsyncPolicy from(String value) {
+        try {
+            return valueOf(value.trim().replace('-', '_').toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 fsync 정책입니다: " + value, e);
+        }
+    }
+}
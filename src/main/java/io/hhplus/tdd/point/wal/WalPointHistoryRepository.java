@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRowVisitor;
+import io.hhplus.tdd.point.repository.PointLedger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * WAL 기반 포인트 내역 저장소
+ * - 저장한 내역은 바로 조회되고, future 는 WAL 에 반영된 뒤 완료됩니다.
+ * - 충전/사용은 PointLedger 로 내역과 최종 잔고를 WAL 에 한 묶음으로 기록합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.persistence.mode", havingValue = "wal")
+public class WalPointHistoryRepository implements PointHistoryRepository, PointLedger {
+
+    private final WalPointStore walPointStore;
+
+    public WalPointHistoryRepository(WalPointStore walPointStore) {
+        this.walPointStore = walPointStore;
+    }
+
+    @Override
+    public CompletableFuture<Void> append(long userId, long expectedPoint, List<PointHistory> pointHistories) {
+        return walPointStore.appendOperation(userId, expectedPoint, pointHistories);
+    }
+
+    @Override
+    public List<PointHistory> findByUserId(Long id) {
+        return walPointStore.findHistories(id);
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdAfter(Long id, long cursor, int limit) {
+        return walPointStore.findHistoriesAfter(id, cursor, limit);
+    }
+
+    @Override
+    public List<PointHistory> findByUserIdBetween(Long id, long from, long to) {
+        return walPointStore.findHistoriesBetween(id, from, to);
+    }
+
+    @Override
+    public void forEachBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException {
+        walPointStore.forEachHistoryBetween(from, to, visitor);
+    }
+
+    @Override
+    public List<PointSummaryBucket> summarize(Long id, PointSummaryInterval interval, long from, long to) {
+        return walPointStore.summarizeHistories(id, interval, from, to);
+    }
+
+    @Override
+    public PointHistory save(PointHistory pointHistory) {
+        try {
+            return saveAsync(pointHistory).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<PointHistory> saveAsync(PointHistory pointHistory) {
+        try {
+            return walPointStore.appendHistory(pointHistory);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> saveAllAsync(List<PointHistory> pointHistories) {
+        List<CompletableFuture<PointHistory>> futures = new ArrayList<>(pointHistories.size());
+        for (PointHistory pointHistory : pointHistories) {
+            futures.add(saveAsync(pointHistory));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    @Override
+    public void flush(Long id) {
+        // 저장 호출이 반환되면 이미 조회 가능한 상태
+    }
+
+    @Override
+    public void flush() {
+        // 저장 호출이 반환되면 이미 조회 가능한 상태
+    }
+}
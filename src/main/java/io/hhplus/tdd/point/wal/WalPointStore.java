@@ -0,0 +1,384 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.executor.ConcurrentUpdateException;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRowVisitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * WAL 기반 포인트 저장소 (point.persistence.mode=wal)
+ * - 잔고 변경과 포인트 내역을 모두 WAL 에 기록한 뒤 메모리(잔고 맵, 컬럼형 내역 저장소)에 반영합니다.
+ * - 충전/사용 한 번의 내역과 최종 잔고는 WAL 에 한 묶음으로 기록되므로 복구 시 둘 중 하나만 반영되지 않습니다.
+ * - 저장 메서드는 WAL 에 반영(fsync 정책 기준)되면 완료되는 future 를 반환하며, 호출한 쪽은 이를 기다린 뒤 응답합니다.
+ * - 주기적으로 전체 잔고 스냅샷을 남기고, 스냅샷에 반영된 segment 는 archive 디렉터리로 옮깁니다.
+ * - 시작 시 스냅샷과 그 이후 segment 만 재생해서 잔고를 복구하므로, 재시작 시간은 거래 수가 아닌 사용자 수에 비례합니다.
+ * - archive 된 내역은 시작 후 백그라운드에서 별도 저장소로 읽어 들입니다.
+ *   새 내역은 archive 다음 id 부터 이어서 바로 기록되고, 내역 조회만 읽기가 끝날 때까지 기다립니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.persistence.mode", havingValue = "wal")
+public class WalPointStore {
+
+    private static final Logger log = LoggerFactory.getLogger(WalPointStore.class);
+    private static final String ARCHIVE_DIRECTORY = "archive";
+
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final ColumnarPointHistoryRepository archivedHistories; // archive segment 의 내역 (id 1 부터)
+    private final ColumnarPointHistoryRepository histories; // 남은 segment 와 새로 기록하는 내역 (archive 다음 id 부터)
+    private final Object historyLock = new Object(); // 내역 id 부여 순서와 WAL 기록 순서를 맞추기 위한 Lock
+    // 잔고 저장(WAL 기록 + 맵 반영)은 read lock, 스냅샷 기준 sequence 를 정할 때만 write lock
+    private final ReentrantReadWriteLock balanceLock = new ReentrantReadWriteLock();
+    private final CompletableFuture<Void> historyReady = new CompletableFuture<>(); // archive 내역을 모두 읽으면 완료
+    private final Path directory;
+    private final Path archiveDirectory;
+    private final WriteAheadLog wal;
+    private final ScheduledExecutorService snapshotScheduler;
+
+    public WalPointStore(@Value("${point.wal.directory:data/wal}") String directory,
+                         @Value("${point.wal.segment-size:67108864}") int segmentSize,
+                         @Value("${point.wal.fsync:group-commit}") String fsyncPolicy,
+                         @Value("${point.wal.group-commit-interval-millis:5}") long groupCommitIntervalMillis,
+                         @Value("${point.wal.snapshot-interval-seconds:300}") long snapshotIntervalSeconds,
+                         MeterRegistry meterRegistry) {
+        this.archivedHistories = new ColumnarPointHistoryRepository(meterRegistry);
+        this.histories = new ColumnarPointHistoryRepository(meterRegistry);
+        this.directory = Path.of(directory);
+        this.archiveDirectory = this.directory.resolve(ARCHIVE_DIRECTORY);
+
+        WalSnapshot.Loaded snapshot = loadSnapshot();
+        long snapshotSequence = snapshot == null ? 0L : snapshot.sequence();
+        // 스냅샷이 없으면 loadSnapshot 이 archive 를 이미 모두 읽었다.
+        boolean archiveLoaded = snapshot == null || !WriteAheadLog.hasSegments(archiveDirectory);
+        this.wal = new WriteAheadLog(this.directory, segmentSize, FsyncPolicy.from(fsyncPolicy), groupCommitIntervalMillis, record -> {
+            switch (record.kind()) {
+                case BALANCE -> {
+                    if (record.sequence() > snapshotSequence) {
+                        balances.put(record.userId(), record.toUserPoint());
+                    }
+                }
+                case HISTORY -> {
+                    PointHistory pointHistory = record.toPointHistory();
+                    if (histories.size() == 0) {
+                        histories.startIdsAt(pointHistory.id()); // 남은 segment 의 첫 내역 = archive 다음 id
+                    }
+                    histories.save(pointHistory);
+                }
+            }
+        });
+        if (histories.size() == 0) {
+            // 남은 segment 에 내역이 없으면 스냅샷에 남긴 다음 id 부터 기록한다. (이전 형식 스냅샷이면 archive 를 먼저 읽어 센다.)
+            if (!archiveLoaded && snapshot.nextHistoryId() == 0L) {
+                loadArchivedHistories();
+                archiveLoaded = true;
+            }
+            histories.startIdsAt(archiveLoaded ? archivedHistories.size() + 1L : snapshot.nextHistoryId());
+        }
+        if (archiveLoaded) {
+            historyReady.complete(null);
+        } else {
+            Thread loader = new Thread(this::loadArchivedHistoriesInBackground, "point-wal-history-loader");
+            loader.setDaemon(true);
+            loader.start();
+        }
+
+        if (snapshotIntervalSeconds > 0) {
+            this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "point-wal-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            this.snapshotScheduler = null;
+        }
+    }
+
+    public UserPoint findBalance(long userId) {
+        UserPoint userPoint = balances.get(userId);
+        return userPoint != null ? userPoint : UserPoint.empty(userId);
+    }
+
+    // 같은 사용자의 잔고 저장은 PointCommandExecutor 가 순서대로 호출한다.
+    public CompletableFuture<UserPoint> saveBalance(long userId, long point) {
+        UserPoint userPoint = new UserPoint(userId, point, System.currentTimeMillis());
+        CompletableFuture<Void> durable;
+        balanceLock.readLock().lock();
+        try {
+            durable = wal.append(WalRecord.balance(userPoint));
+            balances.put(userId, userPoint);
+        } finally {
+            balanceLock.readLock().unlock();
+        }
+        return durable.thenApply(ignored -> userPoint);
+    }
+
+    // 현재 잔고가 expectedPoint 일 때만 저장한다. (비교와 WAL 기록은 해당 사용자 항목의 compute 안에서 원자적으로 일어난다.)
+    public CompletableFuture<Boolean> compareAndSaveBalance(long userId, long expectedPoint, long point) {
+        List<CompletableFuture<Void>> durable = new ArrayList<>(1);
+        balanceLock.readLock().lock();
+        try {
+            balances.compute(userId, (id, current) -> {
+                long currentPoint = current == null ? 0L : current.point();
+                if (currentPoint != expectedPoint) {
+                    return current;
+                }
+                UserPoint userPoint = new UserPoint(userId, point, System.currentTimeMillis());
+                durable.add(wal.append(WalRecord.balance(userPoint)));
+                return userPoint;
+            });
+        } finally {
+            balanceLock.readLock().unlock();
+        }
+        return durable.isEmpty() ? CompletableFuture.completedFuture(false) : durable.get(0).thenApply(ignored -> true);
+    }
+
+    /**
+     * 현재 잔고가 expectedPoint 일 때만 내역을 추가하고, 내역을 반영한 잔고와 함께 WAL 에 한 묶음으로 기록합니다.
+     * - 현재 잔고가 다르면 아무것도 기록하지 않고 ConcurrentUpdateException 을 던집니다.
+     * - 내역은 WAL 에 덧붙인 뒤에 조회 가능해지며, WAL 에 기록하지 못하면 내역과 잔고 모두 반영하지 않고 예외를 던집니다.
+     */
+    public CompletableFuture<Void> appendOperation(long userId, long expectedPoint, List<PointHistory> pointHistories) {
+        long point = expectedPoint;
+        for (PointHistory pointHistory : pointHistories) {
+            point += pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+        }
+        UserPoint updated = new UserPoint(userId, point, pointHistories.get(pointHistories.size() - 1).updateMillis());
+        List<CompletableFuture<Void>> durable = new ArrayList<>(1);
+        balanceLock.readLock().lock();
+        try {
+            balances.compute(userId, (id, current) -> {
+                if ((current == null ? 0L : current.point()) != expectedPoint) {
+                    throw new ConcurrentUpdateException(userId);
+                }
+                // 내역 id 부여 순서와 WAL 기록 순서를 맞추고, WAL 에 덧붙인 뒤에만 내역을 조회 가능하게 한다.
+                synchronized (historyLock) {
+                    List<PointHistory> reserved = reserveIds(pointHistories);
+                    List<WalRecord> records = new ArrayList<>(reserved.size() + 1);
+                    reserved.forEach(pointHistory -> records.add(WalRecord.history(pointHistory)));
+                    records.add(WalRecord.balance(updated));
+                    durable.add(appendToWal(records, userId));
+                    histories.saveAll(pointHistories);
+                }
+                return updated;
+            });
+        } finally {
+            balanceLock.readLock().unlock();
+        }
+        return durable.get(0);
+    }
+
+    // 내역은 WAL 에 반영(fsync 정책 기준)된 뒤 future 가 완료된다. (archive 내역을 읽는 중에도 기다리지 않는다.)
+    public CompletableFuture<PointHistory> appendHistory(PointHistory pointHistory) {
+        PointHistory saved;
+        CompletableFuture<Void> durable;
+        synchronized (historyLock) {
+            saved = reserveIds(List.of(pointHistory)).get(0);
+            durable = appendToWal(List.of(WalRecord.history(saved)), pointHistory.userId());
+            histories.save(pointHistory);
+        }
+        return durable.thenApply(ignored -> saved);
+    }
+
+    // 조회는 archive 내역(앞선 id)과 이후 내역을 id 순서대로 이어 붙인다.
+    public List<PointHistory> findHistories(long userId) {
+        historyReady.join();
+        return concat(archivedHistories.findByUserId(userId), histories.findByUserId(userId));
+    }
+
+    public List<PointHistory> findHistoriesAfter(long userId, long cursor, int limit) {
+        historyReady.join();
+        List<PointHistory> archived = archivedHistories.findByUserIdAfter(userId, cursor, limit);
+        if (archived.size() >= limit) {
+            return archived;
+        }
+        return concat(archived, histories.findByUserIdAfter(userId, cursor, limit - archived.size()));
+    }
+
+    public List<PointHistory> findHistoriesBetween(long userId, long from, long to) {
+        historyReady.join();
+        return concat(archivedHistories.findByUserIdBetween(userId, from, to), histories.findByUserIdBetween(userId, from, to));
+    }
+
+    public void forEachHistoryBetween(long from, long to, PointHistoryRowVisitor visitor) throws IOException {
+        historyReady.join();
+        archivedHistories.forEachBetween(from, to, visitor);
+        histories.forEachBetween(from, to, visitor);
+    }
+
+    public List<PointSummaryBucket> summarizeHistories(long userId, PointSummaryInterval interval, long from, long to) {
+        historyReady.join();
+        return merge(archivedHistories.summarize(userId, interval, from, to), histories.summarize(userId, interval, from, to));
+    }
+
+    /**
+     * 전체 잔고 스냅샷을 남기고 스냅샷에 반영된 segment 를 archive 로 옮깁니다.
+     * - 기준 sequence 를 정하는 순간에만 잔고 저장을 막고, 잔고를 쓰는 동안에는 저장이 계속됩니다.
+     * - 쓰는 도중 바뀐 잔고가 섞여도 기준 sequence 이후 레코드가 복구 시 다시 재생되므로 결과는 같습니다.
+     * - 맵의 잔고는 WAL 에 덧붙인 뒤에만 바뀌므로, 잔고를 다 쓴 뒤 스냅샷 파일로 바꾸기 전에 WAL 을 fsync 하면
+     *   스냅샷에 섞인 변경(기준 sequence 이후 포함)은 모두 WAL 에 남습니다. (fsync 정책과 관계없이 스냅샷이 WAL 보다 앞서지 않음)
+     */
+    public void snapshot() throws IOException {
+        long sequence;
+        long nextHistoryId;
+        balanceLock.writeLock().lock();
+        try {
+            // 내역 기록도 잠시 막아 기준 sequence 와 다음 내역 id 를 같은 시점으로 맞춘다.
+            synchronized (historyLock) {
+                sequence = wal.lastSequence();
+                nextHistoryId = histories.nextId();
+            }
+        } finally {
+            balanceLock.writeLock().unlock();
+        }
+        long start = System.nanoTime();
+        WalSnapshot.write(directory, sequence, nextHistoryId, balances.values(), wal::flush);
+        int archived = wal.archiveSegments(sequence, archiveDirectory);
+        log.info("잔고 스냅샷 완료 - sequence: {}, users: {}, archived segments: {}, {} ms",
+                sequence, balances.size(), archived, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdown();
+        }
+        wal.close();
+    }
+
+    // 스냅샷이 없는데 archive 가 있다면 (스냅샷 손상 등) archive 의 잔고와 내역을 모두 읽고 null 을 반환한다.
+    private WalSnapshot.Loaded loadSnapshot() {
+        WalSnapshot.Loaded snapshot;
+        try {
+            snapshot = WalSnapshot.read(directory);
+        } catch (IOException e) {
+            log.error("잔고 스냅샷을 읽을 수 없어 archive 부터 재생합니다.", e);
+            snapshot = null;
+        }
+        if (snapshot != null) {
+            snapshot.balances().forEach(userPoint -> balances.put(userPoint.id(), userPoint));
+            log.info("잔고 스냅샷 복구 - sequence: {}, users: {}", snapshot.sequence(), snapshot.balances().size());
+            return snapshot;
+        }
+        WriteAheadLog.read(archiveDirectory, record -> {
+            switch (record.kind()) {
+                case BALANCE -> balances.put(record.userId(), record.toUserPoint());
+                case HISTORY -> archivedHistories.save(record.toPointHistory());
+            }
+        });
+        return null;
+    }
+
+    private void loadArchivedHistories() {
+        long start = System.nanoTime();
+        WriteAheadLog.read(archiveDirectory, record -> {
+            if (record.kind() == WalRecord.Kind.HISTORY) {
+                archivedHistories.save(record.toPointHistory());
+            }
+        });
+        log.info("archive 포인트 내역 복구 완료 - histories: {}, {} ms", archivedHistories.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void loadArchivedHistoriesInBackground() {
+        try {
+            loadArchivedHistories();
+            historyReady.complete(null);
+        } catch (RuntimeException e) {
+            log.error("포인트 내역 복구 실패", e);
+            historyReady.completeExceptionally(e);
+        }
+    }
+
+    private static List<PointHistory> concat(List<PointHistory> archived, List<PointHistory> recent) {
+        if (archived.isEmpty()) {
+            return recent;
+        }
+        if (recent.isEmpty()) {
+            return archived;
+        }
+        List<PointHistory> result = new ArrayList<>(archived.size() + recent.size());
+        result.addAll(archived);
+        result.addAll(recent);
+        return result;
+    }
+
+    // 구간 시작 시각 순서인 두 집계 결과를 합친다. (같은 구간은 합계와 건수를 더한다.)
+    private static List<PointSummaryBucket> merge(List<PointSummaryBucket> archived, List<PointSummaryBucket> recent) {
+        if (archived.isEmpty()) {
+            return recent;
+        }
+        if (recent.isEmpty()) {
+            return archived;
+        }
+        List<PointSummaryBucket> result = new ArrayList<>(archived.size() + recent.size());
+        int i = 0;
+        int j = 0;
+        while (i < archived.size() || j < recent.size()) {
+            if (j == recent.size() || i < archived.size() && archived.get(i).startMillis() < recent.get(j).startMillis()) {
+                result.add(archived.get(i++));
+            } else if (i == archived.size() || recent.get(j).startMillis() < archived.get(i).startMillis()) {
+                result.add(recent.get(j++));
+            } else {
+                PointSummaryBucket a = archived.get(i++);
+                PointSummaryBucket b = recent.get(j++);
+                result.add(new PointSummaryBucket(a.startMillis(), a.chargeAmount() + b.chargeAmount(), a.chargeCount() + b.chargeCount(),
+                        a.useAmount() + b.useAmount(), a.useCount() + b.useCount()));
+            }
+        }
+        return result;
+    }
+
+    // historyLock 안에서 다음에 저장될 id 를 미리 붙인다. (WAL 에 덧붙인 뒤 histories 에 저장하면 같은 id 를 받는다.)
+    private List<PointHistory> reserveIds(List<PointHistory> pointHistories) {
+        long nextId = histories.nextId();
+        List<PointHistory> reserved = new ArrayList<>(pointHistories.size());
+        for (PointHistory pointHistory : pointHistories) {
+            if (pointHistory.type() == null) {
+                throw new IllegalArgumentException("거래 유형이 없습니다.");
+            }
+            reserved.add(new PointHistory(nextId++, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis()));
+        }
+        return reserved;
+    }
+
+    // WAL 에 덧붙이지 못하면(종료, 디스크 오류, 묶음 크기 초과) 메모리에는 아무것도 반영하지 않고 실패를 전달한다.
+    private CompletableFuture<Void> appendToWal(List<WalRecord> records, long userId) {
+        try {
+            return wal.append(records);
+        } catch (RuntimeException e) {
+            log.error("WAL 기록 실패 - userId: {}, 레코드 수: {}", userId, records.size(), e);
+            throw e;
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | UncheckedIOException e) {
+            log.error("잔고 스냅샷 실패", e);
+        }
+    }
+}
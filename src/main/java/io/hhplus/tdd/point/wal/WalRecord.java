@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * WAL 에 기록되는 고정 길이(48 byte) 레코드
+ * <pre>
+ * 0  crc32c (4)   4 kind (1)   5 type (1)   6 flags (1)  7 padding (1)
+ * 8  sequence (8) 16 id (8)    24 userId (8) 32 value (8)   40 updateMillis (8)
+ * </pre>
+ * - BALANCE: value 는 잔고, id 는 사용하지 않음
+ * - HISTORY: value 는 금액, id 는 내역 id
+ * - flags: 같은 묶음의 레코드가 뒤에 더 있으면 CONTINUED (묶음은 재생 시 전부 반영되거나 전부 버려집니다.)
+ */
+public record WalRecord(
+        long sequence,
+        Kind kind,
+        long id,
+        long userId,
+        long value,
+        TransactionType type,
+        long updateMillis
+) {
+
+    public static final int SIZE = 48;
+    private static final byte CONTINUED = 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final Kind[] KINDS = Kind.values();
+
+    public enum Kind {
+        BALANCE, HISTORY
+    }
+
+    public static WalRecord balance(UserPoint userPoint) {
+        return new WalRecord(0L, Kind.BALANCE, 0L, userPoint.id(), userPoint.point(), null, userPoint.updateMillis());
+    }
+
+    public static WalRecord history(PointHistory pointHistory) {
+        return new WalRecord(0L, Kind.HISTORY, pointHistory.id(), pointHistory.userId(), pointHistory.amount(),
+                pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    public UserPoint toUserPoint() {
+        return new UserPoint(userId, value, updateMillis);
+    }
+
+    public PointHistory toPointHistory() {
+        return new PointHistory(id, userId, value, type, updateMillis);
+    }
+
+    // buffer 의 offset 위치에 sequence 를 붙여 기록 (continued: 같은 묶음의 레코드가 뒤에 더 있는지)
+    void writeTo(ByteBuffer buffer, int offset, long sequence, boolean continued) {
+        buffer.put(offset + 4, (byte) (kind.ordinal() + 1)); // 0 은 비어 있는 영역
+        buffer.put(offset + 5, type == null ? -1 : (byte) type.ordinal());
+        buffer.put(offset + 6, continued ? CONTINUED : 0);
+        buffer.put(offset + 7, (byte) 0);
+        buffer.putLong(offset + 8, sequence);
+        buffer.putLong(offset + 16, id);
+        buffer.putLong(offset + 24, userId);
+        buffer.putLong(offset + 32, value);
+        buffer.putLong(offset + 40, updateMillis);
+        buffer.putInt(offset, checksum(buffer, offset));
+    }
+
+    // 비어 있거나 checksum 이 맞지 않으면 null (기록 도중 중단된 마지막 레코드)
+    static WalRecord readFrom(ByteBuffer buffer, int offset) {
+        byte kind = buffer.get(offset + 4);
+        if (kind <= 0 || kind > KINDS.length || buffer.getInt(offset) != checksum(buffer, offset)) {
+            return null;
+        }
+        byte type = buffer.get(offset + 5);
+        return new WalRecord(
+                buffer.getLong(offset + 8),
+                KINDS[kind - 1],
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getLong(offset + 32),
+                type < 0 ? null : TYPES[type],
+                buffer.getLong(offset + 40)
+        );
+    }
+
+    // readFrom 으로 읽은 레코드 뒤에 같은 묶음의 레코드가 더 있는지
+    static boolean continuedAt(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset + 6) & CONTINUED) != 0;
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + 4, SIZE - 4));
+        return (int) crc.getValue();
+    }
+}
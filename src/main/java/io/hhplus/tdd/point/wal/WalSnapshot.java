@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 전체 잔고 스냅샷 파일 (snapshot.bin)
+ * <pre>
+ * magic (4) | sequence (8) | nextHistoryId (8) | [userId (8), point (8), updateMillis (8)] * count | count (8) | crc32c (4)
+ * </pre>
+ * - sequence 는 스냅샷에 반영된 마지막 WAL 레코드이며, 복구 시 그 이후 레코드만 재생하면 됩니다.
+ * - nextHistoryId 는 sequence 이후 처음 기록될 내역의 id 입니다. (이전 형식 PTS1 에는 없으므로 읽으면 0)
+ * - 잔고는 쓰는 동안에도 바뀌므로 sequence 이후의 변경이 섞일 수 있습니다. 이름을 바꾸기 전에 beforeInstall 로 그 변경까지 WAL 에 fsync 해야
+ *   스냅샷이 WAL 보다 앞선 상태로 남지 않습니다.
+ * - 임시 파일에 쓰고 fsync 한 뒤 이름을 바꾸므로, 쓰는 도중 중단되어도 이전 스냅샷이 유지됩니다.
+ */
+public final class WalSnapshot {
+
+    private static final String FILE_NAME = "snapshot.bin";
+    private static final String TEMP_FILE_NAME = "snapshot.bin.tmp";
+    private static final int MAGIC = 0x50545332; // "PTS2"
+    private static final int MAGIC_V1 = 0x50545331; // "PTS1" (nextHistoryId 없음)
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private WalSnapshot() {
+    }
+
+    public record Loaded(long sequence, long nextHistoryId, List<UserPoint> balances) {
+    }
+
+    // 임시 파일을 fsync 한 뒤, 스냅샷 파일로 이름을 바꾸기 직전에 beforeInstall 을 호출한다.
+    public static void write(Path directory, long sequence, long nextHistoryId, Iterable<UserPoint> balances,
+                             Runnable beforeInstall) throws IOException {
+        Path temp = directory.resolve(TEMP_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32C crc = new CRC32C();
+            OutputStream channelOut = Channels.newOutputStream(channel);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(channelOut, BUFFER_SIZE), crc));
+            out.writeInt(MAGIC);
+            out.writeLong(sequence);
+            out.writeLong(nextHistoryId);
+            long count = 0;
+            for (UserPoint userPoint : balances) {
+                out.writeLong(userPoint.id());
+                out.writeLong(userPoint.point());
+                out.writeLong(userPoint.updateMillis());
+                count++;
+            }
+            out.writeLong(count);
+            out.flush();
+            DataOutputStream trailer = new DataOutputStream(channelOut);
+            trailer.writeInt((int) crc.getValue());
+            trailer.flush();
+            channel.force(true);
+        }
+        beforeInstall.run();
+        Files.move(temp, directory.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 스냅샷이 없으면 null, 손상되었으면 IOException
+    public static Loaded read(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        long size = Files.size(file);
+        CRC32C crc = new CRC32C();
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(fileIn, crc));
+            int magic = in.readInt();
+            if (magic != MAGIC && magic != MAGIC_V1) {
+                throw new IOException("스냅샷 파일 형식이 올바르지 않습니다.");
+            }
+            long headerBytes = magic == MAGIC ? 4 + 8 + 8 : 4 + 8;
+            long entryBytes = size - headerBytes - 8 - 4;
+            if (entryBytes < 0 || entryBytes % 24 != 0) {
+                throw new IOException("스냅샷 파일 크기가 올바르지 않습니다: " + size);
+            }
+            long sequence = in.readLong();
+            long nextHistoryId = magic == MAGIC ? in.readLong() : 0L;
+            long count = entryBytes / 24;
+            List<UserPoint> balances = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE - 8));
+            for (long i = 0; i < count; i++) {
+                balances.add(new UserPoint(in.readLong(), in.readLong(), in.readLong()));
+            }
+            if (in.readLong() != count) {
+                throw new IOException("스냅샷 항목 수가 올바르지 않습니다.");
+            }
+            int expected = (int) crc.getValue();
+            if (new DataInputStream(fileIn).readInt() != expected) {
+                throw new IOException("스냅샷 checksum 이 맞지 않습니다.");
+            }
+            return new Loaded(sequence, nextHistoryId, balances);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * WAL 기반 잔고 저장소 (잔고는 메모리에 모두 있으므로 별도 캐시를 두지 않습니다.)
+ * - 저장은 WAL 에 반영(fsync 정책 기준)될 때까지 기다린 뒤 반환합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.persistence.mode", havingValue = "wal")
+public class WalUserPointRepository implements UserPointRepository {
+
+    private final WalPointStore walPointStore;
+
+    public WalUserPointRepository(WalPointStore walPointStore) {
+        this.walPointStore = walPointStore;
+    }
+
+    @Override
+    public UserPoint findById(Long id) {
+        return walPointStore.findBalance(id);
+    }
+
+    @Override
+    public UserPoint save(UserPoint userPoint) {
+        return join(walPointStore.saveBalance(userPoint.id(), userPoint.point()));
+    }
+
+    @Override
+    public boolean compareAndSave(UserPoint expected, UserPoint updated) {
+        return join(walPointStore.compareAndSaveBalance(updated.id(), expected.point(), updated.point()));
+    }
+
+    private static <T> T join(CompletableFuture<T> durable) {
+        try {
+            return durable.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package io.hhplus.tdd.point.wal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 고정 크기 segment 파일을 메모리 매핑(MappedByteBuffer)해서 레코드를 순서대로 덧붙이는 로그
+ * - segment 가 가득 차면 fsync 후 다음 segment 를 만듭니다. 파일 이름은 segment 의 첫 sequence 입니다. (segment-00000000000000000001.wal, ...)
+ * - 열 때 모든 segment 를 처음부터 재생하고, checksum 이 맞지 않거나 sequence 가 이어지지 않는 지점(기록 도중 중단)부터 이어서 기록합니다.
+ * - 여러 레코드를 한 묶음으로 기록할 수 있으며, 묶음은 한 segment 안에 기록되고 재생 시 전부 반영되거나 전부 버려집니다.
+ * - 스냅샷에 반영된 segment 는 archiveSegments 로 다른 디렉터리에 옮겨 재생 대상에서 뺄 수 있습니다.
+ */
+public class WriteAheadLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final byte[] ZEROS = new byte[1 << 16];
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final ScheduledExecutorService syncScheduler;
+
+    private long segmentFirstSequence;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position; // 현재 segment 에서 다음 레코드를 기록할 위치
+    private int syncedPosition; // 현재 segment 에서 fsync 가 끝난 위치
+    private long lastSequence;
+    // GROUP_COMMIT: 다음 fsync 를 기다리는 기록
+    private List<CompletableFuture<Void>> pendingSyncs = new ArrayList<>();
+
+    public WriteAheadLog(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, long groupCommitIntervalMillis,
+                         Consumer<WalRecord> replayHandler) {
+        if (segmentSize < WalRecord.SIZE) {
+            throw new IllegalArgumentException("segment 크기는 " + WalRecord.SIZE + " byte 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % WalRecord.SIZE;
+        this.fsyncPolicy = fsyncPolicy;
+        try {
+            Files.createDirectories(directory);
+            replay(replayHandler);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 을 열 수 없습니다: " + directory, e);
+        }
+        if (fsyncPolicy == FsyncPolicy.GROUP_COMMIT) {
+            this.syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "point-wal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncScheduler.scheduleWithFixedDelay(this::sync, groupCommitIntervalMillis, groupCommitIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.syncScheduler = null;
+        }
+    }
+
+    /**
+     * 레코드를 덧붙이고, fsync 정책에 따라 디스크에 반영되면 완료되는 future 를 반환합니다.
+     */
+    public CompletableFuture<Void> append(WalRecord record) {
+        return append(List.of(record));
+    }
+
+    /**
+     * 레코드들을 한 묶음으로 덧붙이고, fsync 정책에 따라 묶음 전체가 디스크에 반영되면 완료되는 future 를 반환합니다.
+     */
+    public synchronized CompletableFuture<Void> append(List<WalRecord> records) {
+        if (channel == null) {
+            throw new IllegalStateException("WAL 이 닫혔습니다.");
+        }
+        long batchSize = (long) records.size() * WalRecord.SIZE;
+        if (records.isEmpty() || batchSize > segmentSize) {
+            throw new IllegalArgumentException("한 묶음의 레코드는 1 건 이상, segment 크기 이하여야 합니다.");
+        }
+        if (position + batchSize > segmentSize) {
+            rollSegment();
+        }
+        for (int i = 0; i < records.size(); i++) {
+            records.get(i).writeTo(buffer, position, ++lastSequence, i < records.size() - 1);
+            position += WalRecord.SIZE;
+        }
+        return switch (fsyncPolicy) {
+            case PER_OP -> {
+                force();
+                yield CompletableFuture.completedFuture(null);
+            }
+            case GROUP_COMMIT -> {
+                CompletableFuture<Void> durable = new CompletableFuture<>();
+                pendingSyncs.add(durable);
+                yield durable;
+            }
+            case NONE -> CompletableFuture.completedFuture(null);
+        };
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * fsync 정책과 관계없이 지금까지 덧붙인 레코드를 모두 디스크에 내려쓰고, fsync 를 기다리던 요청을 완료합니다.
+     * - group commit 의 fsync 가 Lock 밖에서 진행 중일 수 있으므로 기록 중인 segment 의 처음부터 내려씁니다. (이전 segment 는 교체 시점에 이미 fsync 됨)
+     */
+    public synchronized void flush() {
+        if (channel == null) {
+            throw new IllegalStateException("WAL 이 닫혔습니다.");
+        }
+        if (position > 0) {
+            buffer.force(0, position);
+        }
+        syncedPosition = position;
+        completePendingSyncs();
+    }
+
+    /**
+     * 모든 레코드의 sequence 가 주어진 값 이하인 segment 를 archiveDirectory 로 옮기고 옮긴 개수를 반환합니다.
+     * (기록 중인 segment 는 옮기지 않습니다.)
+     */
+    public synchronized int archiveSegments(long sequence, Path archiveDirectory) {
+        try {
+            Files.createDirectories(archiveDirectory);
+            List<Path> segments = segments(directory);
+            int archived = 0;
+            for (int i = 0; i + 1 < segments.size(); i++) {
+                long nextFirstSequence = firstSequenceOf(segments.get(i + 1));
+                if (nextFirstSequence - 1 > sequence || firstSequenceOf(segments.get(i)) == segmentFirstSequence) {
+                    break;
+                }
+                Files.move(segments.get(i), archiveDirectory.resolve(segments.get(i).getFileName()));
+                archived++;
+            }
+            return archived;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL segment 를 옮길 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 디렉터리의 segment 를 읽기 전용으로 순서대로 읽습니다. (archive 된 segment 조회용)
+     */
+    public static void read(Path directory, Consumer<WalRecord> handler) {
+        try {
+            if (!Files.isDirectory(directory)) {
+                return;
+            }
+            for (Path segment : segments(directory)) {
+                long expectedSequence = firstSequenceOf(segment);
+                List<WalRecord> batch = new ArrayList<>();
+                try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                    MappedByteBuffer readBuffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+                    for (int offset = 0; offset + WalRecord.SIZE <= readBuffer.capacity(); offset += WalRecord.SIZE) {
+                        WalRecord record = WalRecord.readFrom(readBuffer, offset);
+                        if (record == null || record.sequence() != expectedSequence++) {
+                            break;
+                        }
+                        batch.add(record);
+                        if (!WalRecord.continuedAt(readBuffer, offset)) {
+                            batch.forEach(handler);
+                            batch.clear();
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL segment 를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    public static boolean hasSegments(Path directory) {
+        try {
+            return Files.isDirectory(directory) && !segments(directory).isEmpty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL segment 를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (syncScheduler != null) {
+            syncScheduler.shutdown();
+        }
+        synchronized (this) {
+            if (channel == null) {
+                return;
+            }
+            force();
+            completePendingSyncs();
+            closeSegment();
+        }
+    }
+
+    // GROUP_COMMIT: 마지막 fsync 이후 쌓인 기록을 한 번에 내려쓰고 기다리던 요청을 완료
+    private void sync() {
+        MappedByteBuffer target;
+        int from;
+        int to;
+        List<CompletableFuture<Void>> completed;
+        synchronized (this) {
+            if (pendingSyncs.isEmpty() || channel == null) {
+                return;
+            }
+            target = buffer;
+            from = syncedPosition;
+            to = position;
+            syncedPosition = position;
+            completed = pendingSyncs;
+            pendingSyncs = new ArrayList<>();
+        }
+        try {
+            // fsync 동안에도 다른 스레드는 계속 기록할 수 있다. (이전 segment 는 교체 시점에 이미 fsync 됨)
+            if (to > from) {
+                target.force(from, to - from);
+            }
+            completed.forEach(future -> future.complete(null));
+        } catch (RuntimeException e) {
+            log.error("WAL fsync 실패", e);
+            completed.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private void force() {
+        if (position > syncedPosition) {
+            buffer.force(syncedPosition, position - syncedPosition);
+            syncedPosition = position;
+        }
+    }
+
+    private void completePendingSyncs() {
+        pendingSyncs.forEach(future -> future.complete(null));
+        pendingSyncs = new ArrayList<>();
+    }
+
+    private void rollSegment() {
+        force();
+        closeSegment();
+        openSegment(lastSequence + 1, 0);
+    }
+
+    private void replay(Consumer<WalRecord> replayHandler) throws IOException {
+        List<Path> segments = segments(directory);
+        long expectedSequence = segments.isEmpty() ? 1 : firstSequenceOf(segments.get(0));
+        long replayed = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            int validEnd = 0; // 마지막으로 끝까지 기록된 묶음의 끝
+            List<WalRecord> batch = new ArrayList<>();
+            try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer readBuffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+                int limit = (int) Math.min(readChannel.size(), segmentSize);
+                for (int offset = 0; offset + WalRecord.SIZE <= limit; offset += WalRecord.SIZE) {
+                    WalRecord record = WalRecord.readFrom(readBuffer, offset);
+                    if (record == null || record.sequence() != expectedSequence + batch.size()) {
+                        break;
+                    }
+                    batch.add(record);
+                    if (!WalRecord.continuedAt(readBuffer, offset)) {
+                        batch.forEach(replayHandler);
+                        expectedSequence += batch.size();
+                        replayed += batch.size();
+                        batch.clear();
+                        validEnd = offset + WalRecord.SIZE;
+                    }
+                }
+            }
+            // 묶음이 segment 에 다 들어가지 않으면 다음 segment 로 넘어가므로 segment 끝이 비어 있을 수 있다.
+            // 다음 segment 가 이어지는 sequence 로 시작하면 계속 재생하고, 아니면 이 segment 의 마지막 묶음 뒤부터 이어서 기록한다.
+            boolean last = i == segments.size() - 1;
+            if (last || firstSequenceOf(segments.get(i + 1)) != expectedSequence) {
+                // 끝까지 기록되지 않은 묶음과 중단된 지점 이후의 segment 는 이어지지 않는 기록이므로 버린다.
+                deleteSegments(segments.subList(i + 1, segments.size()));
+                lastSequence = expectedSequence - 1;
+                openSegment(firstSequenceOf(segment), validEnd);
+                log.info("WAL 재생 완료 - records: {}, lastSequence: {}", replayed, lastSequence);
+                return;
+            }
+        }
+        openSegment(1, 0);
+        log.info("WAL 재생 완료 - records: 0");
+    }
+
+    private void deleteSegments(List<Path> stale) throws IOException {
+        for (Path segment : stale) {
+            log.warn("이어지지 않는 WAL segment 를 삭제합니다: {}", segment);
+            Files.delete(segment);
+        }
+    }
+
+    private void openSegment(long firstSequence, int startPosition) {
+        try {
+            Path path = directory.resolve(segmentFileName(firstSequence));
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean existing = channel.size() > startPosition;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            if (existing) {
+                // 중단된 레코드나 fsync 되지 않은 채 남은 이전 레코드가 중간중간 남아 있을 수 있으므로,
+                // 이어서 기록할 위치 이후를 모두 비우고 디스크에 반영한 뒤 기록을 시작한다. (이후 재생 시 되살아나지 않도록)
+                for (int offset = startPosition; offset < segmentSize; offset += ZEROS.length) {
+                    buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, segmentSize - offset));
+                }
+                buffer.force(startPosition, segmentSize - startPosition);
+            }
+            segmentFirstSequence = firstSequence;
+            position = startPosition;
+            syncedPosition = startPosition;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL segment 를 열 수 없습니다.", e);
+        }
+    }
+
+    private void closeSegment() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("WAL segment 를 닫는 중 오류", e);
+        } finally {
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String segmentFileName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class PointAsyncControllerTest {
+
+    @Mock
+    private PointService pointService;
+
+    @InjectMocks
+    private PointAsyncController pointAsyncController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(pointAsyncController).build();
+    }
+
+    @Test
+    public void 비동기_포인트_조회_테스트() throws Exception {
+        // given
+        UserPoint mockUserPoint = new UserPoint(1L, 100L, System.currentTimeMillis());
+        when(pointService.getUserPointAsync(anyLong())).thenReturn(CompletableFuture.completedFuture(mockUserPoint));
+
+        // when: 비동기 처리가 시작되고, 완료된 결과로 응답한다.
+        MvcResult result = mockMvc.perform(get("/point/async/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.point").value(100L));
+        verify(pointService, times(1)).getUserPointAsync(1L);
+    }
+
+    @Test
+    public void 비동기_포인트_충전_테스트() throws Exception {
+        // given
+        UserPoint mockUserPoint = new UserPoint(1L, 200L, System.currentTimeMillis());
+        when(pointService.chargeUserPointAsync(anyLong(), anyLong())).thenReturn(CompletableFuture.completedFuture(mockUserPoint));
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/point/async/1/charge")
+                        .contentType("application/json")
+                        .content("100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(200L));
+        verify(pointService, times(1)).chargeUserPointAsync(1L, 100L);
+    }
+}
@@ -1,20 +1,32 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -23,6 +35,15 @@ public class PointControllerTest {
     @Mock
     private PointService pointService; // Mock 서비스 계층
 
+    @Mock
+    private PointBatchService pointBatchService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private IdempotencyStore idempotencyStore = new IdempotencyStore(100, 60, new SimpleMeterRegistry());
+
     @InjectMocks
     private PointController pointController; // 실제 컨트롤러 테스트
 
@@ -71,6 +92,64 @@ public class PointControllerTest {
         verify(pointService, times(1)).getUserPointHistory(anyLong());
     }
 
+    @Test
+    public void 기간을_지정한_포인트_내역_조회_테스트() throws Exception {
+        // given
+        PointHistory history = new PointHistory(2, 1, 500L, TransactionType.CHARGE, 1500L);
+        when(pointService.getUserPointHistory(1L, 1000L, 2000L)).thenReturn(List.of(history));
+
+        // when
+        mockMvc.perform(get("/point/1/histories").param("from", "1000").param("to", "2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].updateMillis").value(1500L));
+
+        // then
+        verify(pointService, times(1)).getUserPointHistory(1L, 1000L, 2000L);
+        verify(pointService, never()).getUserPointHistory(anyLong());
+    }
+
+    @Test
+    public void 포인트_내역_페이지_조회_테스트() throws Exception {
+        // given
+        PointHistory history = new PointHistory(3, 1, 500L, TransactionType.CHARGE, System.currentTimeMillis());
+        when(pointService.getUserPointHistoryPage(1L, 2L, 1)).thenReturn(new PointHistoryPage(List.of(history), 3L));
+
+        // when
+        mockMvc.perform(get("/point/1/histories/page").param("cursor", "2").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(3L))
+                .andExpect(jsonPath("$.nextCursor").value(3L));
+
+        // then
+        verify(pointService, times(1)).getUserPointHistoryPage(1L, 2L, 1);
+    }
+
+    @Test
+    public void 포인트_내역_스트리밍_테스트() throws Exception {
+        // given
+        PointHistory history1 = new PointHistory(1, 1, 500L, TransactionType.CHARGE, 10L);
+        PointHistory history2 = new PointHistory(2, 1, 300L, TransactionType.USE, 20L);
+        doAnswer(invocation -> {
+            Consumer<PointHistory> action = invocation.getArgument(1);
+            action.accept(history1);
+            action.accept(history2);
+            return null;
+        }).when(pointService).forEachUserPointHistory(anyLong(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/1/histories/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(history1) + "\n" + objectMapper.writeValueAsString(history2) + "\n"));
+    }
+
     @Test
     public void 포인트_충전_테스트() throws Exception {
         // Given: 서비스에서 반환될 객체 정의
@@ -89,6 +168,26 @@ public class PointControllerTest {
         verify(pointService, times(1)).chargeUserPoint(anyLong(), anyLong());
     }
 
+    @Test
+    public void 같은_Idempotency_Key_로_다시_충전하면_처음_결과를_반환한다() throws Exception {
+        // Given: 첫 충전 결과
+        UserPoint mockUserPoint = new UserPoint(1L, 200L, System.currentTimeMillis());
+        when(pointService.chargeUserPoint(1L, 100L)).thenReturn(mockUserPoint);
+
+        // When: 같은 키로 두 번 요청
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(patch("/point/1/charge")
+                            .header("Idempotency-Key", "charge-1")
+                            .contentType("application/json")
+                            .content("100"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(200L));
+        }
+
+        // Then: 충전은 한 번만 처리된다.
+        verify(pointService, times(1)).chargeUserPoint(1L, 100L);
+    }
+
     @Test
     public void 포인트_사용_테스트() throws Exception {
         // Given: 서비스에서 반환될 객체 정의
@@ -106,4 +205,31 @@ public class PointControllerTest {
         // Then: 서비스가 호출되었는지 확인
         verify(pointService, times(1)).useUserPoint(anyLong(), anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void 포인트_일괄_처리_테스트() throws Exception {
+        // Given: 첫 번째 명령은 성공, 두 번째 명령은 잔액 부족으로 실패
+        PointBatchCommand charge = new PointBatchCommand(1L, TransactionType.CHARGE, 100L);
+        PointBatchCommand use = new PointBatchCommand(2L, TransactionType.USE, 500L);
+        when(pointBatchService.execute(anyList())).thenReturn(List.of(
+                PointBatchResult.success(charge, new UserPoint(1L, 100L, System.currentTimeMillis())),
+                PointBatchResult.failure(use, "잔액이 부족합니다.")
+        ));
+
+        // When: POST 요청을 보냄
+        mockMvc.perform(post("/point/batch")
+                        .contentType("application/json")
+                        .content("""
+                                [{"userId": 1, "type": "CHARGE", "amount": 100},
+                                 {"userId": 2, "type": "USE", "amount": 500}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].userPoint.point").value(100L))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].errorMessage").value("잔액이 부족합니다."));
+
+        // Then: 일괄 처리 서비스가 호출되었는지 확인
+        verify(pointBatchService, times(1)).execute(anyList());
+    }
+}
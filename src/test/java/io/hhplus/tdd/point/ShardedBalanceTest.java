@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedBalanceTest {
+
+    @Test
+    void 초기_잔고를_shard_에_나눠도_합계는_같다() {
+        //given
+        ShardedBalance balance = new ShardedBalance(new UserPoint(1L, 999L, 0L), 1000L, 16);
+
+        //when
+        UserPoint result = balance.current();
+
+        //then
+        assertEquals(999L, result.point());
+    }
+
+    @Test
+    void shard_하나로_부족하면_합계로_사용한다() {
+        //given
+        ShardedBalance balance = new ShardedBalance(new UserPoint(1L, 160L, 0L), 1000L, 16); // shard 당 10
+
+        //when
+        UserPoint result = balance.use(150L);
+
+        //then
+        assertEquals(10L, result.point());
+        assertThrows(IllegalArgumentException.class, () -> balance.use(11L));
+    }
+
+    @Test
+    void 동시에_충전해도_최대_잔고를_정확히_넘지_않는다() throws Exception {
+        //given
+        ShardedBalance balance = new ShardedBalance(new UserPoint(1L, 0L, 0L), 1000L, 16);
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 16; i++) {
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < 100; j++) {
+                    try {
+                        balance.charge(1L);
+                        succeeded.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        // 최대 잔고 초과
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        //then
+        assertEquals(1000, succeeded.get());
+        assertEquals(1000L, balance.current().point());
+    }
+
+    @Test
+    void 변경된_합계를_저장소에_기록한다() {
+        //given
+        ShardedBalance balance = new ShardedBalance(new UserPoint(1L, 0L, 0L), 1000L, 4);
+        List<UserPoint> written = new ArrayList<>();
+        balance.charge(100L);
+
+        //when
+        balance.writeBack(Runnable::run, written::add);
+
+        //then
+        assertEquals(List.of(100L), written.stream().map(UserPoint::point).toList());
+    }
+
+    @Test
+    void 기록_중에_들어온_변경은_모아서_한_번_더_기록하고_그_기록이_끝나면_완료된다() {
+        //given
+        ShardedBalance balance = new ShardedBalance(new UserPoint(1L, 0L, 0L), 1000L, 4);
+        List<Runnable> tasks = new ArrayList<>();
+        List<UserPoint> written = new ArrayList<>();
+        balance.charge(100L);
+        CompletableFuture<Void> first = balance.writeBack(tasks::add, written::add);
+
+        //when
+        balance.charge(50L);
+        CompletableFuture<Void> second = balance.writeBack(tasks::add, written::add); // 기록 작업이 이미 예약되어 있으므로 함께 기록
+        balance.charge(30L);
+        CompletableFuture<Void> third = balance.writeBack(tasks::add, written::add);
+
+        //then
+        assertEquals(1, tasks.size());
+        assertFalse(first.isDone());
+        tasks.get(0).run();
+        assertEquals(List.of(180L), written.stream().map(UserPoint::point).toList());
+        assertTrue(first.isDone() && second.isDone() && third.isDone());
+    }
+
+    @Test
+    void 내역_저장_요청은_하나씩_updateMillis_가_줄어들지_않는_순서로_보낸다() throws Exception {
+        //given
+        ShardedBalance balance = new ShardedBalance(new UserPoint(1L, 0L, 0L), 1_000_000L, 16);
+        List<PointHistory> requested = new ArrayList<>(); // 동시에 호출되면 유실되거나 순서가 섞인다.
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(executorService.submit(() -> {
+                balance.charge(1L);
+                return balance.recordHistory(TransactionType.CHARGE, 1L, requested::add);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        //then
+        assertEquals(1000, requested.size());
+        for (int i = 1; i < requested.size(); i++) {
+            assertTrue(requested.get(i - 1).updateMillis() <= requested.get(i).updateMillis());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointAdmissionControlTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void burst_를_넘는_요청은_429_로_거절된다() {
+        //given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(0.001, 2, 10, meterRegistry);
+        admissionControl.acquire(1L);
+        admissionControl.release(1L);
+        admissionControl.acquire(1L);
+        admissionControl.release(1L);
+
+        //when & then
+        assertThrows(RateLimitExceededException.class, () -> admissionControl.acquire(1L));
+        assertDoesNotThrow(() -> admissionControl.acquire(2L)); // 다른 사용자는 영향 없음
+        assertEquals(1.0, meterRegistry.get("point.admission.rejected").tag("reason", "rate_limited").counter().count());
+    }
+
+    @Test
+    void 처리_중인_요청이_최대치면_503_으로_거절된다() {
+        //given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(1000, 100, 2, meterRegistry);
+        admissionControl.acquire(1L);
+        admissionControl.acquire(1L);
+
+        //when & then
+        assertThrows(PointOverloadedException.class, () -> admissionControl.acquire(1L));
+        assertEquals(2, admissionControl.inFlight(1L));
+    }
+
+    @Test
+    void 처리가_끝난_요청만큼_다시_받을_수_있다() {
+        //given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(1000, 100, 1, meterRegistry);
+        admissionControl.acquire(1L);
+
+        //when
+        admissionControl.release(1L);
+
+        //then
+        assertDoesNotThrow(() -> admissionControl.acquire(1L));
+        assertEquals(1, admissionControl.inFlight(1L));
+    }
+
+    @Test
+    void 추적_사용자가_많으면_정리_주기마다_한_번만_처리가_끝난_사용자를_정리한다() {
+        //given
+        PointAdmissionControl admissionControl = new PointAdmissionControl(1_000_000_000, 1, 10, 2, TimeUnit.HOURS.toNanos(1), meterRegistry);
+        admissionControl.acquire(1L);
+        admissionControl.release(1L);
+        admissionControl.acquire(2L);
+        admissionControl.release(2L);
+
+        //when
+        admissionControl.acquire(3L); // 첫 정리로 1, 2 를 제거
+        admissionControl.release(3L);
+        admissionControl.acquire(4L);
+        admissionControl.acquire(5L); // 정리 주기가 지나지 않아 그대로 추가
+
+        //then
+        assertEquals(3, admissionControl.trackedUsers());
+        assertEquals(0, admissionControl.inFlight(1L));
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterMembershipTest {
+
+    private static final List<String> NODES = List.of("http://localhost:8080", "http://localhost:8081", "http://localhost:8082");
+
+    @Test
+    void 멤버_목록이_없으면_모든_사용자를_직접_처리한다() {
+        //given
+        ClusterMembership clusterMembership = new ClusterMembership(List.of(), "");
+
+        //when
+        //then
+        assertFalse(clusterMembership.enabled());
+        assertTrue(clusterMembership.isLocal(1L));
+        assertTrue(clusterMembership.isLocal(Long.MAX_VALUE));
+    }
+
+    @Test
+    void 모든_인스턴스가_같은_owner_를_계산하고_owner_만_직접_처리한다() {
+        //given
+        List<ClusterMembership> memberships = NODES.stream()
+                .map(self -> new ClusterMembership(NODES, self))
+                .toList();
+
+        //when
+        //then
+        for (long userId = 1; userId <= 1000; userId++) {
+            String owner = memberships.get(0).ownerOf(userId);
+            long localCount = 0;
+            for (ClusterMembership clusterMembership : memberships) {
+                assertEquals(owner, clusterMembership.ownerOf(userId));
+                if (clusterMembership.isLocal(userId)) {
+                    localCount++;
+                }
+            }
+            assertEquals(1, localCount);
+        }
+    }
+
+    @Test
+    void 연속된_사용자가_인스턴스에_고르게_나뉜다() {
+        //given
+        ClusterMembership clusterMembership = new ClusterMembership(NODES, "http://localhost:8080/");
+        Map<String, Integer> countByOwner = new HashMap<>();
+
+        //when
+        for (long userId = 1; userId <= 30_000; userId++) {
+            countByOwner.merge(clusterMembership.ownerOf(userId), 1, Integer::sum);
+        }
+
+        //then
+        assertEquals(3, countByOwner.size());
+        countByOwner.values().forEach(count -> assertTrue(count > 9_000 && count < 11_000, "count: " + count));
+    }
+
+    @Test
+    void 자신의_주소가_멤버_목록에_없으면_예외가_발생한다() {
+        //given
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> new ClusterMembership(NODES, "http://localhost:9090"));
+    }
+}
@@ -0,0 +1,146 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.PointBatchCommand;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 멤버 목록으로 두 인스턴스(Spring context)를 서로 다른 포트로 띄우고 요청이 담당 인스턴스에서 처리되는지 확인합니다.
+ */
+class ClusterRoutingIntegrationTest {
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+    private static String firstUrl;
+    private static String secondUrl;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        int firstPort = freePort();
+        int secondPort = freePort();
+        firstUrl = "http://localhost:" + firstPort;
+        secondUrl = "http://localhost:" + secondPort;
+        first = start(firstPort, firstUrl);
+        second = start(secondPort, secondUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (first != null) {
+            first.close();
+        }
+        if (second != null) {
+            second.close();
+        }
+    }
+
+    @Test
+    void 담당하지_않는_사용자의_충전은_담당_인스턴스에서_처리된다() throws Exception {
+        //given
+        long userId = userOwnedBy(secondUrl, 1L);
+
+        //when
+        HttpResponse<String> charged = send(HttpRequest.newBuilder(URI.create(firstUrl + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("100")));
+        HttpResponse<String> found = send(HttpRequest.newBuilder(URI.create(firstUrl + "/point/" + userId)).GET());
+
+        //then
+        assertEquals(200, charged.statusCode());
+        assertEquals(100L, objectMapper.readValue(charged.body(), UserPoint.class).point());
+        assertEquals(100L, objectMapper.readValue(found.body(), UserPoint.class).point());
+        assertEquals(100L, second.getBean(PointService.class).getUserPoint(userId).point());
+        assertEquals(0L, first.getBean(PointService.class).getUserPoint(userId).point());
+    }
+
+    @Test
+    void 일괄_요청은_담당_인스턴스별로_나눠_처리된다() throws Exception {
+        //given
+        long localUserId = userOwnedBy(firstUrl, 1_000L);
+        long remoteUserId = userOwnedBy(secondUrl, 1_000L);
+        List<PointBatchCommand> commands = List.of(
+                new PointBatchCommand(remoteUserId, TransactionType.CHARGE, 300L),
+                new PointBatchCommand(localUserId, TransactionType.CHARGE, 200L),
+                new PointBatchCommand(remoteUserId, TransactionType.USE, 100L)
+        );
+
+        //when
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(firstUrl + "/point/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(commands))));
+
+        //then
+        assertEquals(200, response.statusCode());
+        List<PointBatchResult> results = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+        assertEquals(List.of(300L, 200L, 200L), results.stream().map(result -> result.userPoint().point()).toList());
+        assertEquals(200L, second.getBean(PointService.class).getUserPoint(remoteUserId).point());
+        assertEquals(200L, first.getBean(PointService.class).getUserPoint(localUserId).point());
+    }
+
+    @Test
+    void 전달받은_요청의_사용자를_담당하지_않으면_다시_전달하지_않고_421_을_반환한다() throws Exception {
+        //given
+        long userId = userOwnedBy(secondUrl, 2_000L);
+
+        //when
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(firstUrl + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .header(PointForwarder.FORWARDED_HEADER, secondUrl)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("100")));
+
+        //then
+        assertEquals(421, response.statusCode());
+        assertEquals(0L, second.getBean(PointService.class).getUserPoint(userId).point());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long userOwnedBy(String owner, long from) {
+        ClusterMembership clusterMembership = first.getBean(ClusterMembership.class);
+        long userId = from;
+        while (!clusterMembership.ownerOf(userId).equals(owner)) {
+            userId++;
+        }
+        return userId;
+    }
+
+    private static ConfigurableApplicationContext start(int port, String self) {
+        return SpringApplication.run(TddApplication.class,
+                "--server.port=" + port,
+                "--point.cluster.nodes=" + firstUrl + "," + secondUrl,
+                "--point.cluster.self=" + self,
+                "--spring.main.banner-mode=off");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.hotkey.HotKeyTracker;
+import io.hhplus.tdd.point.lock.LockTimeoutException;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LockingPointCommandExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LockingPointCommandExecutor executor =
+            new LockingPointCommandExecutor(new StripedUserLockManager(16), 0L, new HotKeyTracker(100, 4096, 60L), meterRegistry);
+
+    @Test
+    void 명령을_실행하면_Lock_대기_시간과_보유_시간이_기록된다() {
+        //given
+        long userId = 1L;
+
+        //when
+        CompletableFuture<Integer> future = executor.submit(userId, () -> 1);
+
+        //then
+        assertEquals(1, future.join());
+        assertEquals(1, meterRegistry.get("point.lock.wait").timer().count());
+        assertEquals(1, meterRegistry.get("point.lock.hold").timer().count());
+    }
+
+    @Test
+    void 명령이_끝나면_사용_중인_Lock_이_없다() {
+        //given
+        long userId = 1L;
+
+        //when
+        executor.submit(userId, () -> 1).join();
+
+        //then
+        assertEquals(0, meterRegistry.get("point.lock.active").gauge().value());
+        assertEquals(0, meterRegistry.get("point.lock.waiting").gauge().value());
+    }
+
+    @Test
+    void 명령이_실패하면_실패한_future_를_반환한다() {
+        //given
+        long userId = 1L;
+
+        //when
+        CompletableFuture<Integer> future = executor.submit(userId, () -> {
+            throw new IllegalArgumentException("실패");
+        });
+
+        //then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(1, meterRegistry.get("point.lock.hold").timer().count());
+    }
+
+    @Test
+    void 대기_시간_안에_Lock_을_얻지_못하면_실행하지_않고_실패한다() throws Exception {
+        //given
+        StripedUserLockManager userLockManager = new StripedUserLockManager(16);
+        LockingPointCommandExecutor timeoutExecutor = new LockingPointCommandExecutor(userLockManager, 50L, new HotKeyTracker(100, 4096, 60L), meterRegistry);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> userLockManager.executeWithLock(1L, () -> {
+            locked.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        holder.start();
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        //when
+        CompletableFuture<Integer> future = timeoutExecutor.submit(1L, () -> 1);
+        release.countDown();
+        holder.join();
+
+        //then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(LockTimeoutException.class, exception.getCause());
+        assertEquals(1.0, meterRegistry.get("point.lock.timeouts").counter().count());
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.executor;
+
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OptimisticPointCommandExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimisticPointCommandExecutor executor =
+            new OptimisticPointCommandExecutor(new StripedUserLockManager(16), 2, 60_000L, meterRegistry);
+
+    @Test
+    void 저장이_충돌하면_명령을_다시_실행한다() {
+        //given
+        long userId = 1L;
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        int result = executor.submit(userId, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ConcurrentUpdateException(userId);
+            }
+            return attempts.get();
+        }).join();
+
+        //then
+        assertEquals(2, result);
+        assertFalse(executor.isHot(userId));
+        assertEquals(1, meterRegistry.get("point.optimistic.conflicts").counter().count());
+    }
+
+    @Test
+    void 재시도_횟수를_넘기면_hot_key_로_보고_Lock_으로_실행한다() {
+        //given
+        long userId = 1L;
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        int result = executor.submit(userId, () -> {
+            if (attempts.incrementAndGet() <= 4) { // 최초 실행 + 재시도 2번 + Lock 안에서 1번 충돌
+                throw new ConcurrentUpdateException(userId);
+            }
+            return attempts.get();
+        }).join();
+
+        //then
+        assertEquals(5, result);
+        assertTrue(executor.isHot(userId));
+        assertEquals(1, meterRegistry.get("point.optimistic.lock.fallbacks").counter().count());
+    }
+
+    @Test
+    void 저장_시_compare_and_set_이_필요하다() {
+        assertTrue(executor.requiresCompareAndSave());
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartitionedPointCommandExecutorTest {
+
+    private final PartitionedPointCommandExecutor executor = new PartitionedPointCommandExecutor(4, 100, new SimpleMeterRegistry());
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.close();
+    }
+
+    @Test
+    void 같은_사용자의_명령은_제출한_순서대로_실행된다() {
+        //given
+        long userId = 1L;
+        List<Integer> executed = new ArrayList<>(); // 같은 worker 에서만 접근하므로 동기화가 필요 없다.
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 50; i++) {
+            int order = i;
+            futures.add(executor.submit(userId, () -> {
+                executed.add(order);
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        //then
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, executed.get(i));
+            assertEquals(i, futures.get(i).join());
+        }
+    }
+
+    @Test
+    void 명령이_실패하면_future_가_예외로_완료된다() {
+        //when
+        CompletableFuture<Object> future = executor.submit(1L, () -> {
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        });
+
+        //then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    void 같은_사용자는_항상_같은_파티션에_배정된다() {
+        assertEquals(executor.partitionOf(12345L), executor.partitionOf(12345L));
+        assertEquals(4, executor.partitionCount());
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointHistoryExporterTest {
+
+    private final ColumnarPointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository(new SimpleMeterRegistry());
+    private final PointHistoryExporter pointHistoryExporter = new PointHistoryExporter(pointHistoryRepository, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryRepository.save(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 1000L));
+        pointHistoryRepository.save(new PointHistory(0, 2L, 300L, TransactionType.CHARGE, 2000L));
+        pointHistoryRepository.save(new PointHistory(0, 1L, 200L, TransactionType.USE, 3000L));
+    }
+
+    @Test
+    void 전체_내역을_CSV_로_내보낸다() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointHistoryExportResult result = pointHistoryExporter.export(Long.MIN_VALUE, Long.MAX_VALUE,
+                PointHistoryExportFormat.CSV, Channels.newChannel(out));
+
+        // then
+        assertEquals("""
+                id,userId,amount,type,updateMillis
+                1,1,500,CHARGE,1000
+                2,2,300,CHARGE,2000
+                3,1,200,USE,3000
+                """, out.toString(StandardCharsets.US_ASCII));
+        assertEquals(3L, result.rows());
+        assertEquals(out.size(), result.bytes());
+    }
+
+    @Test
+    void 기간에_처리된_내역만_고정_길이_binary_로_내보낸다() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointHistoryExportResult result = pointHistoryExporter.export(2000L, 3001L,
+                PointHistoryExportFormat.BINARY, Channels.newChannel(out));
+
+        // then
+        assertEquals(2L, result.rows());
+        assertEquals(2 * PointHistoryExportFormat.BINARY_RECORD_SIZE, out.size());
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        assertEquals(new PointHistory(2, 2L, 300L, TransactionType.CHARGE, 2000L), read(buffer));
+        assertEquals(new PointHistory(3, 1L, 200L, TransactionType.USE, 3000L), read(buffer));
+    }
+
+    @Test
+    void 내보내기_형식이나_기간이_잘못되면_실패() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> PointHistoryExportFormat.from("json"));
+        assertThrows(IllegalArgumentException.class, () -> pointHistoryExporter.export(10L, 10L,
+                PointHistoryExportFormat.CSV, Channels.newChannel(new ByteArrayOutputStream())));
+    }
+
+    private static PointHistory read(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        long userId = buffer.getLong();
+        long amount = buffer.getLong();
+        long updateMillis = buffer.getLong();
+        TransactionType type = TransactionType.values()[buffer.get()];
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+}
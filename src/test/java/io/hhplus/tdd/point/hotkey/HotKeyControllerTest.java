@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class HotKeyControllerTest {
+
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    @InjectMocks
+    private HotKeyController hotKeyController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(hotKeyController).build();
+    }
+
+    @Test
+    void Lock_대기_시간_기준_상위_사용자_조회() throws Exception {
+        // given
+        when(hotKeyTracker.topByLockWait(5)).thenReturn(List.of(new HotKey(7L, 120L, 35.5)));
+
+        // when
+        mockMvc.perform(get("/admin/hot-keys").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userId").value(7L))
+                .andExpect(jsonPath("$[0].requests").value(120L))
+                .andExpect(jsonPath("$[0].lockWaitMillis").value(35.5));
+
+        // then
+        verify(hotKeyTracker).topByLockWait(5);
+    }
+
+    @Test
+    void 요청_수_기준_상위_사용자_조회() throws Exception {
+        // given
+        when(hotKeyTracker.topByRequests(20)).thenReturn(List.of(new HotKey(3L, 900L, 0.0)));
+
+        // when
+        mockMvc.perform(get("/admin/hot-keys").param("by", "requests"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userId").value(3L));
+
+        // then
+        verify(hotKeyTracker).topByRequests(20);
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotKeyTrackerTest {
+
+    private final HotKeyTracker hotKeyTracker = new HotKeyTracker(3, 1024, 60L);
+
+    @Test
+    void 요청이_많은_사용자_순으로_조회된다() {
+        //given
+        for (long userId = 1; userId <= 10; userId++) {
+            for (int i = 0; i < userId * 10; i++) {
+                hotKeyTracker.recordRequest(userId);
+            }
+        }
+
+        //when
+        List<HotKey> result = hotKeyTracker.topByRequests(3);
+
+        //then
+        assertEquals(List.of(10L, 9L, 8L), result.stream().map(HotKey::userId).toList());
+        assertTrue(result.get(0).requests() >= 100L); // count-min sketch 는 과소 추정하지 않는다.
+    }
+
+    @Test
+    void Lock_대기_시간이_긴_사용자_순으로_조회된다() {
+        //given
+        hotKeyTracker.recordLockWait(1L, 1_000_000L);
+        hotKeyTracker.recordLockWait(2L, 5_000_000L);
+        hotKeyTracker.recordLockWait(2L, 5_000_000L);
+        hotKeyTracker.recordLockWait(3L, 3_000_000L);
+
+        //when
+        List<HotKey> result = hotKeyTracker.topByLockWait(2);
+
+        //then
+        assertEquals(List.of(2L, 3L), result.stream().map(HotKey::userId).toList());
+        assertTrue(result.get(0).lockWaitMillis() >= 10.0);
+    }
+
+    @Test
+    void 뒤늦게_요청이_몰린_사용자가_상위_목록에_들어온다() {
+        //given
+        for (long userId = 1; userId <= 3; userId++) {
+            hotKeyTracker.recordRequest(userId);
+        }
+
+        //when
+        for (int i = 0; i < 50; i++) {
+            hotKeyTracker.recordRequest(99L);
+        }
+
+        //then
+        assertEquals(99L, hotKeyTracker.topByRequests(1).get(0).userId());
+        assertEquals(3, hotKeyTracker.topByRequests(10).size());
+    }
+}
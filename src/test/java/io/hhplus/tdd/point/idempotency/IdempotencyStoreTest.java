@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IdempotencyStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore(2, 60, meterRegistry);
+
+    @Test
+    void 같은_키의_재요청은_처음_결과를_반환한다() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyStore.execute("key", 1L, TransactionType.CHARGE, 100L,
+                () -> new UserPoint(1L, 100L * executions.incrementAndGet(), 0L));
+
+        // when
+        UserPoint result = idempotencyStore.execute("key", 1L, TransactionType.CHARGE, 100L,
+                () -> new UserPoint(1L, 100L * executions.incrementAndGet(), 0L));
+
+        // then
+        assertEquals(100L, result.point());
+        assertEquals(1, executions.get());
+        assertEquals(1.0, meterRegistry.get("point.idempotency.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("point.idempotency.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_실패() {
+        // given
+        idempotencyStore.execute("key", 1L, TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 100L, 0L));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> idempotencyStore.execute("key", 1L, TransactionType.USE, 100L,
+                () -> new UserPoint(1L, 0L, 0L)));
+    }
+
+    @Test
+    void 실패한_요청은_보관하지_않는다() {
+        // given
+        assertThrows(IllegalArgumentException.class, () -> idempotencyStore.execute("key", 1L, TransactionType.USE, 100L, () -> {
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        }));
+
+        // when
+        UserPoint result = idempotencyStore.execute("key", 1L, TransactionType.USE, 100L, () -> new UserPoint(1L, 0L, 0L));
+
+        // then
+        assertEquals(0L, result.point());
+    }
+
+    @Test
+    void 최대_건수를_넘으면_오래된_키부터_제거한다() {
+        // when
+        for (long userId = 1; userId <= 3; userId++) {
+            long id = userId;
+            idempotencyStore.execute("key", id, TransactionType.CHARGE, 100L, () -> new UserPoint(id, 100L, 0L));
+        }
+
+        // then
+        assertEquals(2, idempotencyStore.size());
+    }
+
+    @Test
+    void 최대_건수를_넘어도_처리_중인_키는_제거하지_않는다() {
+        // given
+        IdempotencyStore store = new IdempotencyStore(1, 60, meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        store.execute("key", 1L, TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            // 처리 중에 다른 키가 저장되어 최대 건수를 넘는다.
+            store.execute("key", 2L, TransactionType.CHARGE, 100L, () -> new UserPoint(2L, 100L, 0L));
+            return new UserPoint(1L, 100L, 0L);
+        });
+        UserPoint retried = store.execute("key", 1L, TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            return new UserPoint(1L, 200L, 0L);
+        });
+
+        // then
+        assertEquals(100L, retried.point());
+        assertEquals(1, executions.get());
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.executor.ConcurrentUpdateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSourcedPointLedgerTest {
+
+    private final EventSourcedPointLedger pointLedger = new EventSourcedPointLedger(new SimpleMeterRegistry());
+    private final ProjectedUserPointRepository userPointRepository = new ProjectedUserPointRepository(pointLedger, List.of());
+
+    @Test
+    void 내역을_추가하면_잔고가_함께_갱신된다() {
+        // given
+        List<PointHistory> histories = List.of(
+                new PointHistory(0, 1L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(0, 1L, 300L, TransactionType.USE, 200L)
+        );
+
+        // when
+        pointLedger.append(1L, 0L, histories).join();
+
+        // then
+        assertEquals(new UserPoint(1L, 700L, 200L), userPointRepository.findById(1L));
+        assertEquals(List.of(
+                new PointHistory(1, 1L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2, 1L, 300L, TransactionType.USE, 200L)
+        ), pointLedger.findByUserId(1L));
+    }
+
+    @Test
+    void 예상한_잔고와_다르면_내역을_추가하지_않는다() {
+        // given
+        pointLedger.append(1L, 0L, List.of(new PointHistory(0, 1L, 1000L, TransactionType.CHARGE, 100L)));
+
+        // when & then
+        assertThrows(ConcurrentUpdateException.class,
+                () -> pointLedger.append(1L, 0L, List.of(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 200L))));
+        assertEquals(1000L, userPointRepository.findById(1L).point());
+        assertEquals(1, pointLedger.findByUserId(1L).size());
+    }
+
+    @Test
+    void 내역이_없는_사용자의_잔고는_0() {
+        // when
+        UserPoint result = userPointRepository.findById(9L);
+
+        // then
+        assertEquals(0L, result.point());
+    }
+
+    @Test
+    void 잔고를_직접_저장할_수_없다() {
+        // when & then
+        assertThrows(IllegalStateException.class, () -> userPointRepository.save(new UserPoint(1L, 100L, 0L)));
+        assertThrows(IllegalStateException.class,
+                () -> userPointRepository.compareAndSave(new UserPoint(1L, 0L, 0L), new UserPoint(1L, 100L, 0L)));
+    }
+
+    @Test
+    void 추가할_수_없는_내역이_섞여_있으면_아무것도_추가하지_않는다() {
+        // given
+        List<PointHistory> histories = List.of(
+                new PointHistory(0, 1L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(0, 1L, 300L, null, 200L)
+        );
+
+        // when
+        boolean failed = pointLedger.saveAllAsync(histories).isCompletedExceptionally();
+
+        // then
+        assertTrue(failed);
+        assertEquals(0L, userPointRepository.findById(1L).point());
+        assertTrue(pointLedger.findByUserId(1L).isEmpty());
+    }
+
+    @Test
+    void shard_사용자와는_함께_시작할_수_없다() {
+        // when & then
+        assertThrows(IllegalStateException.class, () -> new ProjectedUserPointRepository(pointLedger, List.of(7L)));
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefCountedUserLockManagerTest {
+
+    private final RefCountedUserLockManager userLockManager = new RefCountedUserLockManager();
+
+    @Test
+    void 같은_사용자의_작업은_동시에_실행되지_않는다() throws Exception {
+        //given
+        int threadCount = 10;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    userLockManager.executeWithLock(1L, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        sleep(5);
+                        return running.decrementAndGet();
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        //then
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        assertEquals(0, userLockManager.activeLocks()); // 모두 반납되면 Lock 이 제거된다.
+        executorService.shutdown();
+    }
+
+    @Test
+    void 작업이_실패해도_Lock_이_반납된다() {
+        //when
+        assertThrows(IllegalArgumentException.class, () -> userLockManager.executeWithLock(1L, () -> {
+            throw new IllegalArgumentException("실패");
+        }));
+
+        //then
+        assertEquals(0, userLockManager.activeLocks());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedUserLockManagerTest {
+
+    @Test
+    void stripe_수는_2의_거듭제곱으로_올림된다() {
+        assertEquals(1, new StripedUserLockManager(1).stripes());
+        assertEquals(16, new StripedUserLockManager(16).stripes());
+        assertEquals(1024, new StripedUserLockManager(1000).stripes());
+    }
+
+    @Test
+    void 같은_사용자의_작업은_동시에_실행되지_않는다() throws Exception {
+        //given
+        StripedUserLockManager userLockManager = new StripedUserLockManager(16);
+        int threadCount = 10;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    userLockManager.executeWithLock(1L, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.yield();
+                        return running.decrementAndGet();
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        //then
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        executorService.shutdown();
+    }
+}
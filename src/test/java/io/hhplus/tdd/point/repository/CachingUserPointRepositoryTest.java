@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingUserPointRepositoryTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    private CachingUserPointRepository cachingUserPointRepository;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cachingUserPointRepository = new CachingUserPointRepository(userPointRepository, 16); // 세그먼트당 1건
+    }
+
+    @Test
+    void 두번째_조회는_캐시에서_반환된다() {
+        //given
+        long userId = 1L;
+        UserPoint userPoint = new UserPoint(userId, 100L, System.currentTimeMillis());
+        when(userPointRepository.findById(userId)).thenReturn(userPoint);
+
+        //when
+        cachingUserPointRepository.findById(userId);
+        UserPoint result = cachingUserPointRepository.findById(userId);
+
+        //then
+        assertEquals(userPoint, result);
+        verify(userPointRepository, times(1)).findById(userId);
+        assertEquals(1, cachingUserPointRepository.stats().hitCount());
+        assertEquals(1, cachingUserPointRepository.stats().missCount());
+    }
+
+    @Test
+    void 저장한_값은_테이블_조회없이_반환된다() {
+        //given
+        long userId = 1L;
+        UserPoint userPoint = new UserPoint(userId, 300L, System.currentTimeMillis());
+        when(userPointRepository.save(userPoint)).thenReturn(userPoint);
+
+        //when
+        cachingUserPointRepository.save(userPoint);
+        UserPoint result = cachingUserPointRepository.findById(userId);
+
+        //then
+        assertEquals(userPoint, result);
+        verify(userPointRepository).save(userPoint); // write-through
+        verify(userPointRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_오래된_항목이_제거된다() {
+        //given: 1 과 17 은 같은 세그먼트에 속한다.
+        UserPoint first = new UserPoint(1L, 100L, System.currentTimeMillis());
+        UserPoint second = new UserPoint(17L, 200L, System.currentTimeMillis());
+        when(userPointRepository.save(first)).thenReturn(first);
+        when(userPointRepository.save(second)).thenReturn(second);
+        when(userPointRepository.findById(1L)).thenReturn(first);
+
+        //when
+        cachingUserPointRepository.save(first);
+        cachingUserPointRepository.save(second);
+        cachingUserPointRepository.findById(1L);
+
+        //then
+        verify(userPointRepository).findById(1L); // 제거되었으므로 테이블에서 다시 읽는다.
+        assertEquals(2, cachingUserPointRepository.stats().evictionCount());
+    }
+
+    @Test
+    void 현재_잔고가_기대값과_같으면_저장한다() {
+        //given
+        long userId = 1L;
+        UserPoint current = new UserPoint(userId, 100L, 1L);
+        UserPoint updated = new UserPoint(userId, 150L, 2L);
+        when(userPointRepository.findById(userId)).thenReturn(current);
+        when(userPointRepository.save(updated)).thenReturn(updated);
+
+        //when
+        boolean saved = cachingUserPointRepository.compareAndSave(current, updated);
+
+        //then
+        assertTrue(saved);
+        assertEquals(updated, cachingUserPointRepository.findById(userId));
+        verify(userPointRepository).save(updated);
+    }
+
+    @Test
+    void 현재_잔고가_기대값과_다르면_저장하지_않는다() {
+        //given
+        long userId = 1L;
+        when(userPointRepository.findById(userId)).thenReturn(new UserPoint(userId, 200L, 1L));
+
+        //when
+        boolean saved = cachingUserPointRepository.compareAndSave(new UserPoint(userId, 100L, 1L), new UserPoint(userId, 150L, 2L));
+
+        //then
+        assertFalse(saved);
+        verify(userPointRepository, never()).save(any());
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarPointHistoryRepositoryTest {
+
+    private final ColumnarPointHistoryRepository pointHistoryRepository =
+            new ColumnarPointHistoryRepository(new SimpleMeterRegistry());
+
+    @Test
+    void 포인트_내역_저장() {
+        // given
+        PointHistory pointHistory = new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 100L);
+
+        // when
+        PointHistory result = pointHistoryRepository.save(pointHistory);
+
+        // then
+        assertEquals(new PointHistory(1, 1L, 500L, TransactionType.CHARGE, 100L), result);
+    }
+
+    @Test
+    void 사용자별_내역을_저장한_순서대로_조회() {
+        // given
+        pointHistoryRepository.save(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 100L));
+        pointHistoryRepository.save(new PointHistory(0, 2L, 700L, TransactionType.CHARGE, 200L));
+        pointHistoryRepository.save(new PointHistory(0, 1L, 300L, TransactionType.USE, 300L));
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserId(1L);
+
+        // then
+        assertEquals(List.of(
+                new PointHistory(1, 1L, 500L, TransactionType.CHARGE, 100L),
+                new PointHistory(3, 1L, 300L, TransactionType.USE, 300L)
+        ), result);
+        assertTrue(pointHistoryRepository.findByUserId(3L).isEmpty());
+    }
+
+    @Test
+    void 첫_id_를_정하면_그_id_부터_이어서_저장하고_cursor_로_조회한다() {
+        // given
+        pointHistoryRepository.startIdsAt(101L);
+        for (long i = 1; i <= 4; i++) {
+            pointHistoryRepository.save(new PointHistory(0, 1L, i * 100, TransactionType.CHARGE, i));
+        }
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserIdAfter(1L, 102L, 10);
+
+        // then
+        assertEquals(List.of(103L, 104L), result.stream().map(PointHistory::id).toList());
+        assertEquals(4, pointHistoryRepository.findByUserIdAfter(1L, 0L, 10).size());
+        assertEquals(105L, pointHistoryRepository.nextId());
+        assertThrows(IllegalStateException.class, () -> pointHistoryRepository.startIdsAt(1L));
+    }
+
+    @Test
+    void chunk_경계를_넘어도_내역이_유지된다() {
+        // given
+        int count = PointHistoryColumns.CHUNK_SIZE + 10;
+        List<PointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            histories.add(new PointHistory(0, 1L, i, TransactionType.CHARGE, i));
+        }
+
+        // when
+        pointHistoryRepository.saveAllAsync(histories).join();
+
+        // then
+        List<PointHistory> result = pointHistoryRepository.findByUserId(1L);
+        assertEquals(count, result.size());
+        assertEquals(new PointHistory(count, 1L, count - 1, TransactionType.CHARGE, count - 1), result.get(count - 1));
+    }
+
+    @Test
+    void cursor_이후의_내역을_limit_건_조회() {
+        // given
+        for (long i = 1; i <= 6; i++) {
+            pointHistoryRepository.save(new PointHistory(0, i % 2, i * 100, TransactionType.CHARGE, i)); // 짝수 id 는 사용자 0, 홀수 id 는 사용자 1
+        }
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserIdAfter(1L, 1L, 2);
+
+        // then
+        assertEquals(List.of(3L, 5L), result.stream().map(PointHistory::id).toList());
+        assertTrue(pointHistoryRepository.findByUserIdAfter(1L, 5L, 2).isEmpty());
+    }
+
+    @Test
+    void 기간에_처리된_내역만_조회() {
+        // given
+        for (long millis = 100; millis <= 600; millis += 100) {
+            pointHistoryRepository.save(new PointHistory(0, 1L, millis, TransactionType.CHARGE, millis));
+            pointHistoryRepository.save(new PointHistory(0, 2L, millis, TransactionType.CHARGE, millis));
+        }
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserIdBetween(1L, 200L, 500L);
+
+        // then
+        assertEquals(List.of(200L, 300L, 400L), result.stream().map(PointHistory::updateMillis).toList());
+        assertTrue(result.stream().allMatch(pointHistory -> pointHistory.userId() == 1L));
+    }
+
+    @Test
+    void 처리_시각의_순서가_어긋난_내역도_기간으로_조회() {
+        // given
+        pointHistoryRepository.save(new PointHistory(0, 1L, 100L, TransactionType.CHARGE, 300L));
+        pointHistoryRepository.save(new PointHistory(0, 1L, 200L, TransactionType.CHARGE, 100L)); // 늦게 저장된 이전 시각의 내역
+        pointHistoryRepository.save(new PointHistory(0, 1L, 300L, TransactionType.CHARGE, 200L));
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserIdBetween(1L, 100L, 250L);
+
+        // then
+        assertEquals(List.of(200L, 300L), result.stream().map(PointHistory::amount).toList());
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PointHistoryAggregatesTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PointHistoryAggregates aggregates = new PointHistoryAggregates(ZONE);
+
+    @Test
+    void 시간_구간별로_충전과_사용_합계를_집계한다() {
+        // given
+        aggregates.add(history(1L, 100L, TransactionType.CHARGE, at(1, 9, 10)));
+        aggregates.add(history(1L, 200L, TransactionType.CHARGE, at(1, 9, 50)));
+        aggregates.add(history(1L, 50L, TransactionType.USE, at(1, 9, 55)));
+        aggregates.add(history(1L, 30L, TransactionType.USE, at(1, 11, 0)));
+        aggregates.add(history(2L, 999L, TransactionType.CHARGE, at(1, 9, 20))); // 다른 사용자
+
+        // when
+        List<PointSummaryBucket> result = aggregates.summarize(1L, PointSummaryInterval.HOUR, at(1, 0, 0), at(2, 0, 0));
+
+        // then
+        assertEquals(List.of(
+                new PointSummaryBucket(at(1, 9, 0), 300L, 2L, 50L, 1L),
+                new PointSummaryBucket(at(1, 11, 0), 0L, 0L, 30L, 1L)
+        ), result);
+    }
+
+    @Test
+    void 일_구간은_서버_시간대의_자정부터_나눈다() {
+        // given
+        aggregates.add(history(1L, 100L, TransactionType.CHARGE, at(1, 23, 59)));
+        aggregates.add(history(1L, 200L, TransactionType.CHARGE, at(2, 0, 0)));
+        aggregates.add(history(1L, 300L, TransactionType.CHARGE, at(3, 12, 0)));
+
+        // when
+        List<PointSummaryBucket> result = aggregates.summarize(1L, PointSummaryInterval.DAY, at(1, 15, 0), at(3, 0, 0));
+
+        // then
+        // from 이 속한 1일 구간부터 3일 0시 이전에 시작하는 구간까지
+        assertEquals(List.of(
+                new PointSummaryBucket(at(1, 0, 0), 100L, 1L, 0L, 0L),
+                new PointSummaryBucket(at(2, 0, 0), 200L, 1L, 0L, 0L)
+        ), result);
+    }
+
+    @Test
+    void 늦게_도착한_내역도_해당_구간에_반영된다() {
+        // given
+        aggregates.add(history(1L, 100L, TransactionType.CHARGE, at(3, 10, 0)));
+        aggregates.add(history(1L, 200L, TransactionType.CHARGE, at(1, 10, 0)));
+        aggregates.add(history(1L, 300L, TransactionType.CHARGE, at(2, 10, 0)));
+        aggregates.add(history(1L, 400L, TransactionType.CHARGE, at(1, 10, 30)));
+
+        // when
+        List<PointSummaryBucket> result = aggregates.summarize(1L, PointSummaryInterval.DAY, at(1, 0, 0), at(4, 0, 0));
+
+        // then
+        assertEquals(List.of(at(1, 0, 0), at(2, 0, 0), at(3, 0, 0)), result.stream().map(PointSummaryBucket::startMillis).toList());
+        assertEquals(List.of(600L, 300L, 100L), result.stream().map(PointSummaryBucket::chargeAmount).toList());
+    }
+
+    @Test
+    void 내역이_없는_사용자는_빈_목록을_반환한다() {
+        // when
+        List<PointSummaryBucket> result = aggregates.summarize(1L, PointSummaryInterval.HOUR, 0L, Long.MAX_VALUE);
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    private static PointHistory history(long userId, long amount, TransactionType type, long updateMillis) {
+        return new PointHistory(0, userId, amount, type, updateMillis);
+    }
+
+    private static long at(int day, int hour, int minute) {
+        return ZonedDateTime.of(2024, 5, day, hour, minute, 0, 0, ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -5,17 +5,20 @@ import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,13 +27,13 @@ class PointHistoryRepositoryImplTest {
     @Mock
     private PointHistoryTable pointHistoryTable;
 
-    @InjectMocks
     private PointHistoryRepositoryImpl pointHistoryRepository;
 
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        pointHistoryRepository = new PointHistoryRepositoryImpl(pointHistoryTable, new SimpleMeterRegistry());
     }
 
     @Test
@@ -56,9 +59,13 @@ class PointHistoryRepositoryImplTest {
         // given
         long userId = 1L;
 
-        PointHistory history1 = new PointHistory(0, userId, 500L, TransactionType.CHARGE, System.currentTimeMillis());
-        PointHistory history2 = new PointHistory(0, userId, 300L, TransactionType.USE, System.currentTimeMillis());
-        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of(history1, history2));
+        PointHistory history1 = new PointHistory(1, userId, 500L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistory history2 = new PointHistory(2, userId, 300L, TransactionType.USE, System.currentTimeMillis());
+        when(pointHistoryTable.insert(userId, 500L, TransactionType.CHARGE, history1.updateMillis())).thenReturn(history1);
+        when(pointHistoryTable.insert(userId, 300L, TransactionType.USE, history2.updateMillis())).thenReturn(history2);
+        pointHistoryRepository.save(history1);
+        pointHistoryRepository.save(history2);
+
         // when
         List<PointHistory> result = pointHistoryRepository.findByUserId(userId);
 
@@ -67,7 +74,112 @@ class PointHistoryRepositoryImplTest {
         assertEquals(history1, result.get(0));
         assertEquals(history2, result.get(1));
 
-        verify(pointHistoryTable).selectAllByUserId(userId);
+        verify(pointHistoryTable, never()).selectAllByUserId(userId); // 테이블 전체 조회 없이 인덱스에서 조회
+    }
+
+    @Test
+    void 기간에_처리된_내역만_조회() {
+        // given
+        long userId = 1L;
+        for (long i = 1; i <= 5; i++) {
+            PointHistory history = new PointHistory(i, userId, i * 100, TransactionType.CHARGE, i * 1000);
+            when(pointHistoryTable.insert(userId, i * 100, TransactionType.CHARGE, i * 1000)).thenReturn(history);
+            pointHistoryRepository.save(history);
+        }
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserIdBetween(userId, 2000L, 4000L);
+
+        // then
+        assertEquals(List.of(2L, 3L), result.stream().map(PointHistory::id).toList());
+        verify(pointHistoryTable, never()).selectAllByUserId(userId);
+    }
+
+    @Test
+    void cursor_이후의_내역을_limit_건_조회() {
+        // given
+        long userId = 1L;
+        for (long id = 1; id <= 5; id++) {
+            PointHistory history = new PointHistory(id, userId, id * 100, TransactionType.CHARGE, id);
+            when(pointHistoryTable.insert(userId, id * 100, TransactionType.CHARGE, id)).thenReturn(history);
+            pointHistoryRepository.save(history);
+        }
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserIdAfter(userId, 2L, 2);
+
+        // then
+        assertEquals(List.of(3L, 4L), result.stream().map(PointHistory::id).toList());
+        assertTrue(pointHistoryRepository.findByUserIdAfter(userId, 5L, 2).isEmpty());
+        assertTrue(pointHistoryRepository.findByUserIdAfter(2L, 0L, 2).isEmpty());
+    }
 
+    @Test
+    void 다른_사용자의_내역은_조회되지_않는다() {
+        // given
+        PointHistory mine = new PointHistory(1, 1L, 500L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistory other = new PointHistory(2, 2L, 300L, TransactionType.CHARGE, System.currentTimeMillis());
+        when(pointHistoryTable.insert(1L, 500L, TransactionType.CHARGE, mine.updateMillis())).thenReturn(mine);
+        when(pointHistoryTable.insert(2L, 300L, TransactionType.CHARGE, other.updateMillis())).thenReturn(other);
+        pointHistoryRepository.save(mine);
+        pointHistoryRepository.save(other);
+
+        // when
+        List<PointHistory> result = pointHistoryRepository.findByUserId(1L);
+
+        // then
+        assertEquals(List.of(mine), result);
+        assertTrue(pointHistoryRepository.findByUserId(3L).isEmpty());
+    }
+
+    @Test
+    void 비동기_저장_후_flush_하면_내역이_조회된다() {
+        // given
+        long userId = 1L;
+        PointHistory pointHistory = new PointHistory(1, userId, 500L, TransactionType.CHARGE, System.currentTimeMillis());
+        when(pointHistoryTable.insert(userId, 500L, TransactionType.CHARGE, pointHistory.updateMillis())).thenReturn(pointHistory);
+
+        // when
+        CompletableFuture<PointHistory> future = pointHistoryRepository.saveAsync(pointHistory);
+        pointHistoryRepository.flush(userId);
+
+        // then
+        assertTrue(future.isDone());
+        assertEquals(pointHistory, future.join());
+        assertEquals(List.of(pointHistory), pointHistoryRepository.findByUserId(userId));
+    }
+
+    @Test
+    void 종료_후_저장_요청은_적재하지_않고_실패한다() throws Exception {
+        // given
+        pointHistoryRepository.close();
+        PointHistory pointHistory = new PointHistory(1, 1L, 500L, TransactionType.CHARGE, System.currentTimeMillis());
+
+        // when
+        CompletableFuture<PointHistory> future = pointHistoryRepository.saveAsync(pointHistory);
+
+        // then
+        assertTrue(future.isCompletedExceptionally());
+        verify(pointHistoryTable, never()).insert(1L, 500L, TransactionType.CHARGE, pointHistory.updateMillis());
+        pointHistoryRepository.flush(1L); // 기다릴 요청이 남지 않는다.
+    }
+
+    @Test
+    void 전체_내역을_사용자별_저장_순서대로_기간만_전달한다() throws Exception {
+        // given
+        for (long id = 1; id <= 4; id++) {
+            long userId = id % 2 + 1;
+            PointHistory history = new PointHistory(id, userId, id * 100, TransactionType.CHARGE, id * 1000);
+            when(pointHistoryTable.insert(userId, id * 100, TransactionType.CHARGE, id * 1000)).thenReturn(history);
+            pointHistoryRepository.save(history);
+        }
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        pointHistoryRepository.forEachBetween(2000L, 5000L, (id, userId, amount, type, updateMillis) -> visited.add(id));
+
+        // then
+        assertThat(visited).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(visited.indexOf(2L)).isLessThan(visited.indexOf(4L)); // 같은 사용자 안에서는 id 순서
     }
-}
\ No newline at end of file
+}
@@ -2,9 +2,9 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -17,12 +17,12 @@ class UserPointRepositoryImplTest {
     @Mock
     private UserPointTable userPointTable;
 
-    @InjectMocks
     private UserPointRepositoryImpl userPointRepository;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        userPointRepository = new UserPointRepositoryImpl(userPointTable, new SimpleMeterRegistry());
     }
 
     @Test
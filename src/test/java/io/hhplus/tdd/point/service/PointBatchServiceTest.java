@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointBatchCommand;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointBatchService;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import io.hhplus.tdd.point.cluster.PointForwarder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PointBatchServiceTest {
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private PointForwarder pointForwarder;
+
+    private PointBatchService pointBatchService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pointBatchService = new PointBatchService(pointService, new ClusterMembership(List.of(), ""), pointForwarder, 4, 100);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        pointBatchService.close();
+    }
+
+    @Test
+    public void 비어_있는_명령이_있으면_아무것도_처리하지_않고_실패한다() {
+        //given
+        List<PointBatchCommand> commands = new ArrayList<>(Arrays.asList(new PointBatchCommand(1L, TransactionType.CHARGE, 100L), null));
+
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> pointBatchService.execute(commands)); // 400
+        verify(pointService, never()).executeBatchAsync(anyLong(), anyList());
+    }
+
+    @Test
+    public void 한_사용자의_명령을_적재하지_못해도_다른_사용자의_결과는_반환한다() {
+        //given
+        PointBatchCommand charge = new PointBatchCommand(1L, TransactionType.CHARGE, 100L);
+        PointBatchCommand use = new PointBatchCommand(2L, TransactionType.USE, 50L);
+        when(pointService.executeBatchAsync(eq(1L), anyList()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(new UserPoint(1L, 100L, 0L))));
+        when(pointService.executeBatchAsync(eq(2L), anyList())).thenThrow(new IllegalStateException("적재 실패"));
+
+        //when
+        List<PointBatchResult> results = pointBatchService.execute(List.of(charge, use));
+
+        //then
+        assertTrue(results.get(0).success());
+        assertEquals(100L, results.get(0).userPoint().point());
+        assertFalse(results.get(1).success());
+        assertEquals("적재 실패", results.get(1).errorMessage());
+    }
+}
@@ -1,20 +1,53 @@
 package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
 import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointSummaryBucket;
+import io.hhplus.tdd.point.PointSummaryInterval;
+import io.hhplus.tdd.point.ShardedBalances;
+import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.executor.LockingPointCommandExecutor;
+import io.hhplus.tdd.point.executor.OptimisticPointCommandExecutor;
+import io.hhplus.tdd.point.executor.PointCommandExecutor;
+import io.hhplus.tdd.point.hotkey.HotKeyTracker;
+import io.hhplus.tdd.point.ledger.EventSourcedPointLedger;
+import io.hhplus.tdd.point.ledger.ProjectedUserPointRepository;
+import io.hhplus.tdd.point.lock.StripedUserLockManager;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.wal.WalPointHistoryRepository;
+import io.hhplus.tdd.point.wal.WalPointStore;
+import io.hhplus.tdd.point.wal.WalRecord;
+import io.hhplus.tdd.point.wal.WalUserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.catalina.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 class PointServiceTest {
@@ -25,13 +58,13 @@ class PointServiceTest {
     @Mock
     private PointHistoryRepository pointHistoryRepository;
 
-    @InjectMocks
     private PointService pointService;
 
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        pointService = new PointService(userPointRepository, pointHistoryRepository, new LockingPointCommandExecutor(new StripedUserLockManager(16), 0L, new HotKeyTracker(100, 4096, 60L), new SimpleMeterRegistry()), Runnable::run, new ShardedBalances(List.of(), 16, new SimpleMeterRegistry()));
     }
 
     @Test
@@ -52,7 +85,7 @@ class PointServiceTest {
 
         verify(userPointRepository).findById(userId);  // findById가 호출됐는지 검증
         verify(userPointRepository).save(any(UserPoint.class)); // 저장 메서드가 호출됐는지 확인
-        verify(pointHistoryRepository).save(any(PointHistory.class)); // 히스토리 저장 메서드가 호출됐는지 확인
+        verify(pointHistoryRepository).saveAllAsync(anyList()); // 히스토리 저장 메서드가 호출됐는지 확인
     }
 
     @Test
@@ -73,7 +106,7 @@ class PointServiceTest {
 
         verify(userPointRepository).findById(userId);
         verify(userPointRepository).save(any(UserPoint.class));
-        verify(pointHistoryRepository).save(any(PointHistory.class));
+        verify(pointHistoryRepository).saveAllAsync(anyList());
     }
 
     @Test
@@ -94,7 +127,7 @@ class PointServiceTest {
         //then
         assertEquals("잔액이 부족합니다.", exception.getMessage());
         verify(userPointRepository, never()).save(any(UserPoint.class));
-        verify(pointHistoryRepository, never()).save(any(PointHistory.class));
+        verify(pointHistoryRepository, never()).saveAllAsync(anyList());
     }
 
     @Test
@@ -115,7 +148,7 @@ class PointServiceTest {
         //then
         assertEquals("최대 잔고를 초과 했습니다.", exception.getMessage());
         verify(userPointRepository, never()).save(any(UserPoint.class));
-        verify(pointHistoryRepository, never()).save(any(PointHistory.class));
+        verify(pointHistoryRepository, never()).saveAllAsync(anyList());
     }
 
     @Test
@@ -136,7 +169,7 @@ class PointServiceTest {
         //then
         assertEquals("포인트 충전은 0 보다 커야 합니다.", exception.getMessage());
         verify(userPointRepository, never()).save(any(UserPoint.class));
-        verify(pointHistoryRepository, never()).save(any(PointHistory.class));
+        verify(pointHistoryRepository, never()).saveAllAsync(anyList());
     }
 
     @Test
@@ -157,7 +190,266 @@ class PointServiceTest {
         //then
         assertEquals("포인트 사용은 0 보다 커야 합니다.", exception.getMessage());
         verify(userPointRepository, never()).save(any(UserPoint.class));
-        verify(pointHistoryRepository, never()).save(any(PointHistory.class));
+        verify(pointHistoryRepository, never()).saveAllAsync(anyList());
+    }
+
+    @Test
+    public void 같은_사용자의_대기중인_명령은_한번에_반영된다() {
+        //given: 그룹 처리를 직접 실행할 수 있도록 실행을 미뤄두는 실행기
+        DeferredPointCommandExecutor deferredExecutor = new DeferredPointCommandExecutor();
+        pointService = new PointService(userPointRepository, pointHistoryRepository, deferredExecutor, Runnable::run, new ShardedBalances(List.of(), 16, new SimpleMeterRegistry()));
+        long userId = 1L;
+        when(userPointRepository.findById(userId)).thenReturn(new UserPoint(userId, 900L, System.currentTimeMillis()));
+
+        CompletableFuture<UserPoint> charge = pointService.chargeUserPointAsync(userId, 50L);   // 950
+        CompletableFuture<UserPoint> overCharge = pointService.chargeUserPointAsync(userId, 100L); // 1050 -> 최대 잔고 초과
+        CompletableFuture<UserPoint> use = pointService.useUserPointAsync(userId, 200L);       // 750
+
+        //when
+        deferredExecutor.runAll();
+
+        //then
+        assertEquals(950L, charge.join().point());
+        CompletionException exception = assertThrows(CompletionException.class, overCharge::join);
+        assertEquals("최대 잔고를 초과 했습니다.", exception.getCause().getMessage());
+        assertEquals(750L, use.join().point());
+
+        verify(userPointRepository, times(1)).findById(userId); // 잔고는 한 번만 조회
+        verify(userPointRepository, times(1)).save(argThat(userPoint -> userPoint.point() == 750L)); // 최종 잔고만 저장
+        verify(pointHistoryRepository, times(1)).saveAllAsync(argThat(histories -> histories.size() == 2));
+    }
+
+    @Test
+    public void 비동기_실행기가_작업을_거절하면_과부하로_실패한다() {
+        //given
+        pointService = new PointService(userPointRepository, pointHistoryRepository,
+                new LockingPointCommandExecutor(new StripedUserLockManager(16), 0L, new HotKeyTracker(100, 4096, 60L), new SimpleMeterRegistry()),
+                command -> {
+                    throw new RejectedExecutionException("큐가 가득 찼습니다.");
+                },
+                new ShardedBalances(List.of(), 16, new SimpleMeterRegistry()));
+
+        //when
+        CompletableFuture<UserPoint> charge = pointService.chargeUserPointAsync(1L, 50L);
+
+        //then
+        CompletionException exception = assertThrows(CompletionException.class, charge::join);
+        assertInstanceOf(PointOverloadedException.class, exception.getCause()); // 503
+        verify(userPointRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void 낙관적_실행에서_잔고_저장이_충돌하면_다시_조회해서_적용한다() {
+        //given
+        pointService = new PointService(userPointRepository, pointHistoryRepository,
+                new OptimisticPointCommandExecutor(new StripedUserLockManager(16), 8, 1000L, new SimpleMeterRegistry()), Runnable::run, new ShardedBalances(List.of(), 16, new SimpleMeterRegistry()));
+        long userId = 1L;
+        UserPoint stale = new UserPoint(userId, 100L, 1L);
+        UserPoint latest = new UserPoint(userId, 300L, 2L); // 다른 요청이 먼저 저장한 잔고
+        when(userPointRepository.findById(userId)).thenReturn(stale, latest);
+        when(userPointRepository.compareAndSave(eq(stale), any(UserPoint.class))).thenReturn(false);
+        when(userPointRepository.compareAndSave(eq(latest), any(UserPoint.class))).thenReturn(true);
+
+        //when
+        UserPoint result = pointService.chargeUserPoint(userId, 50L);
+
+        //then
+        assertEquals(350L, result.point());
+        verify(userPointRepository, times(2)).findById(userId);
+        verify(userPointRepository, never()).save(any(UserPoint.class));
+        verify(pointHistoryRepository, times(1)).saveAllAsync(anyList());
+    }
+
+    // submit 된 명령을 runAll 이 호출될 때까지 실행하지 않는 실행기
+    private static class DeferredPointCommandExecutor implements PointCommandExecutor {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        @Override
+        public <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            pending.add(() -> future.complete(command.get()));
+            return future;
+        }
+
+        void runAll() {
+            pending.forEach(Runnable::run);
+            pending.clear();
+        }
+    }
+
+    @Test
+    public void event_sourced_원장은_내역_추가만으로_잔고를_갱신한다() {
+        //given
+        EventSourcedPointLedger pointLedger = new EventSourcedPointLedger(new SimpleMeterRegistry());
+        PointService ledgerPointService = new PointService(new ProjectedUserPointRepository(pointLedger, List.of()), pointLedger,
+                new LockingPointCommandExecutor(new StripedUserLockManager(16), 0L, new HotKeyTracker(100, 4096, 60L), new SimpleMeterRegistry()), Runnable::run, new ShardedBalances(List.of(), 16, new SimpleMeterRegistry()));
+
+        //when
+        ledgerPointService.chargeUserPoint(1L, 1000L);
+        UserPoint result = ledgerPointService.useUserPoint(1L, 400L);
+
+        //then
+        assertEquals(600L, result.point());
+        assertEquals(600L, ledgerPointService.getUserPoint(1L).point());
+        assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE),
+                ledgerPointService.getUserPointHistory(1L).stream().map(PointHistory::type).toList());
+    }
+
+    @Test
+    public void event_sourced_원장에서_낙관적_실행은_내역_추가가_충돌하면_다시_조회해서_적용한다() {
+        //given
+        EventSourcedPointLedger pointLedger = spy(new EventSourcedPointLedger(new SimpleMeterRegistry()));
+        AtomicBoolean interleaved = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (interleaved.compareAndSet(false, true)) {
+                // 조회와 내역 추가 사이에 다른 요청이 먼저 충전한다.
+                pointLedger.append(1L, 0L, List.of(new PointHistory(0, 1L, 200L, TransactionType.CHARGE, 1L)));
+            }
+            return invocation.callRealMethod();
+        }).when(pointLedger).append(anyLong(), anyLong(), anyList());
+        PointService ledgerPointService = new PointService(new ProjectedUserPointRepository(pointLedger, List.of()), pointLedger,
+                new OptimisticPointCommandExecutor(new StripedUserLockManager(16), 8, 1000L, new SimpleMeterRegistry()), Runnable::run, new ShardedBalances(List.of(), 16, new SimpleMeterRegistry()));
+
+        //when
+        UserPoint result = ledgerPointService.chargeUserPoint(1L, 50L);
+
+        //then
+        assertEquals(250L, result.point());
+        assertEquals(250L, ledgerPointService.getUserPoint(1L).point());
+        assertEquals(2, ledgerPointService.getUserPointHistory(1L).size());
+    }
+
+    @Test
+    public void shard_사용자는_그룹_처리_없이_충전하고_합계를_저장한다() {
+        //given
+        long userId = 7L;
+        PointService shardedPointService = new PointService(userPointRepository, pointHistoryRepository,
+                new LockingPointCommandExecutor(new StripedUserLockManager(16), 0L, new HotKeyTracker(100, 4096, 60L), new SimpleMeterRegistry()),
+                Runnable::run, new ShardedBalances(List.of(userId), 4, new SimpleMeterRegistry()));
+        when(userPointRepository.findById(userId)).thenReturn(new UserPoint(userId, 100L, 0L));
+
+        //when
+        UserPoint result = shardedPointService.chargeUserPoint(userId, 50L);
+
+        //then
+        assertEquals(150L, result.point());
+        assertEquals(150L, shardedPointService.getUserPoint(userId).point());
+        verify(userPointRepository, times(1)).findById(userId); // 처음 한 번만 저장소에서 읽는다.
+        verify(userPointRepository).save(argThat(userPoint -> userPoint.point() == 150L));
+        verify(pointHistoryRepository).saveAsync(argThat(history -> history.amount() == 50L && history.type() == TransactionType.CHARGE));
+    }
+
+    @Test
+    public void shard_사용자의_합계를_저장하지_못하면_실패_횟수를_남긴다() {
+        //given
+        long userId = 7L;
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointService shardedPointService = new PointService(userPointRepository, pointHistoryRepository,
+                new LockingPointCommandExecutor(new StripedUserLockManager(16), 0L, new HotKeyTracker(100, 4096, 60L), new SimpleMeterRegistry()),
+                Runnable::run, new ShardedBalances(List.of(userId), 4, meterRegistry));
+        when(userPointRepository.findById(userId)).thenReturn(new UserPoint(userId, 100L, 0L));
+        when(userPointRepository.save(any(UserPoint.class))).thenThrow(new IllegalStateException("저장 실패"));
+
+        //when
+        UserPoint result = shardedPointService.chargeUserPoint(userId, 50L);
+
+        //then
+        assertEquals(150L, result.point()); // 메모리 모드의 응답은 저장을 기다리지 않는다.
+        assertEquals(1.0, meterRegistry.get("point.sharded.write_back.failures").counter().count());
+    }
+
+    @Test
+    public void wal_모드의_shard_사용자는_응답한_충전과_내역이_재시작_후에도_남는다(@TempDir Path directory) {
+        //given
+        long userId = 7L;
+        WalPointStore store = new WalPointStore(directory.toString(), WalRecord.SIZE * 16, "group-commit", 1L, 0L, new SimpleMeterRegistry());
+        PointService shardedPointService = new PointService(new WalUserPointRepository(store), new WalPointHistoryRepository(store),
+                new LockingPointCommandExecutor(new StripedUserLockManager(16), 0L, new HotKeyTracker(100, 4096, 60L), new SimpleMeterRegistry()),
+                Runnable::run, new ShardedBalances(List.of(userId), 4, new SimpleMeterRegistry()));
+
+        //when
+        shardedPointService.chargeUserPoint(userId, 500L);
+        UserPoint result = shardedPointService.useUserPoint(userId, 200L);
+        store.close();
+
+        //then
+        WalPointStore restored = new WalPointStore(directory.toString(), WalRecord.SIZE * 16, "group-commit", 1L, 0L, new SimpleMeterRegistry());
+        assertEquals(300L, result.point());
+        assertEquals(300L, restored.findBalance(userId).point());
+        assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE),
+                restored.findHistories(userId).stream().map(PointHistory::type).toList());
+        restored.close();
+    }
+
+    @Test
+    public void 포인트_내역_페이지_조회() {
+        // given
+        long userId = 1L;
+        List<PointHistory> histories = List.of(
+                new PointHistory(3, userId, 100L, TransactionType.CHARGE, 1L),
+                new PointHistory(4, userId, 200L, TransactionType.CHARGE, 2L),
+                new PointHistory(5, userId, 300L, TransactionType.USE, 3L)
+        );
+        when(pointHistoryRepository.findByUserIdAfter(userId, 2L, 3)).thenReturn(histories); // 다음 페이지 확인용으로 1건 더 조회
+
+        // when
+        PointHistoryPage page = pointService.getUserPointHistoryPage(userId, 2L, 2);
+
+        // then
+        assertEquals(histories.subList(0, 2), page.items());
+        assertEquals(4L, page.nextCursor());
+        verify(pointHistoryRepository).flush(userId);
+    }
+
+    @Test
+    public void 마지막_페이지는_다음_cursor_가_없다() {
+        // given
+        long userId = 1L;
+        List<PointHistory> histories = List.of(new PointHistory(3, userId, 100L, TransactionType.CHARGE, 1L));
+        when(pointHistoryRepository.findByUserIdAfter(userId, 0L, 3)).thenReturn(histories);
+
+        // when
+        PointHistoryPage page = pointService.getUserPointHistoryPage(userId, 0L, 2);
+
+        // then
+        assertEquals(histories, page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void 페이지_크기가_범위를_벗어나면_실패() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> pointService.getUserPointHistoryPage(1L, 0L, 0));
+        assertThrows(IllegalArgumentException.class, () -> pointService.getUserPointHistoryPage(1L, 0L, 1001));
+    }
+
+    @Test
+    public void 구간별_집계_조회는_미리_집계한_구간_합계를_더한다() {
+        // given
+        long userId = 1L;
+        List<PointSummaryBucket> buckets = List.of(
+                new PointSummaryBucket(0L, 300L, 2L, 50L, 1L),
+                new PointSummaryBucket(86_400_000L, 100L, 1L, 0L, 0L)
+        );
+        when(pointHistoryRepository.summarize(userId, PointSummaryInterval.DAY, 0L, 172_800_000L)).thenReturn(buckets);
+
+        // when
+        PointSummary summary = pointService.getUserPointSummary(userId, 0L, 172_800_000L, "day");
+
+        // then
+        assertEquals(buckets, summary.buckets());
+        assertEquals(400L, summary.chargeAmount());
+        assertEquals(50L, summary.useAmount());
+        verify(pointHistoryRepository).flush(userId);
+    }
+
+    @Test
+    public void 구간별_집계_조회_조건이_잘못되면_실패() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> pointService.getUserPointSummary(1L, 0L, 1L, "week"));
+        assertThrows(IllegalArgumentException.class, () -> pointService.getUserPointSummary(1L, 10L, 10L, "hour"));
+        assertThrows(IllegalArgumentException.class, () -> pointService.getUserPointSummary(1L, -1L, 10L, "hour"));
     }
 
-}
\ No newline at end of file
+}
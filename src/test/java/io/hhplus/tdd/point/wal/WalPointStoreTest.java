@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.executor.ConcurrentUpdateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WalPointStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 재시작하면_잔고와_내역이_복구된다() {
+        //given
+        WalPointStore store = open();
+        store.saveBalance(1L, 500L).join();
+        store.appendHistory(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 10L)).join();
+        UserPoint saved = store.saveBalance(1L, 200L).join();
+        store.appendHistory(new PointHistory(0, 1L, 300L, TransactionType.USE, 20L)).join();
+        store.close();
+
+        //when
+        WalPointStore restored = open();
+
+        //then
+        assertEquals(saved, restored.findBalance(1L));
+        assertEquals(List.of(
+                new PointHistory(1L, 1L, 500L, TransactionType.CHARGE, 10L),
+                new PointHistory(2L, 1L, 300L, TransactionType.USE, 20L)
+        ), restored.findHistories(1L));
+        restored.close();
+    }
+
+    @Test
+    void 재시작_후_저장한_내역은_이어지는_id_를_받는다() {
+        //given
+        WalPointStore store = open();
+        store.appendHistory(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 10L)).join();
+        store.close();
+
+        //when
+        WalPointStore restored = open();
+        PointHistory saved = restored.appendHistory(new PointHistory(0, 2L, 100L, TransactionType.CHARGE, 20L)).join();
+
+        //then
+        assertEquals(2L, saved.id());
+        assertEquals(0L, restored.findBalance(3L).point()); // 기록이 없는 사용자는 잔고 0
+        restored.close();
+    }
+
+    @Test
+    void 스냅샷_이후_재시작하면_스냅샷과_이후_기록으로_복구된다() throws IOException {
+        //given
+        WalPointStore store = open();
+        for (long i = 1; i <= 20; i++) {
+            store.saveBalance(i % 2, i).join();
+            store.appendHistory(new PointHistory(0, i % 2, i, TransactionType.CHARGE, i)).join();
+        }
+        store.snapshot();
+        UserPoint saved = store.saveBalance(1L, 999L).join();
+        store.appendHistory(new PointHistory(0, 1L, 999L, TransactionType.CHARGE, 21L)).join();
+        store.close();
+
+        //when
+        WalPointStore restored = open();
+
+        //then
+        assertTrue(WriteAheadLog.hasSegments(directory.resolve("archive"))); // 스냅샷 이전 segment 는 archive 로 이동
+        assertEquals(saved, restored.findBalance(1L));
+        assertEquals(20L, restored.findBalance(0L).point());
+        List<PointHistory> histories = restored.findHistories(1L); // archive 내역을 모두 읽은 뒤 조회된다.
+        assertEquals(11, histories.size());
+        assertEquals(new PointHistory(21L, 1L, 999L, TransactionType.CHARGE, 21L), histories.get(10));
+        restored.close();
+    }
+
+    @Test
+    void 남은_segment_에_내역이_없어도_재시작_후_내역은_이어지는_id_를_받는다() throws IOException {
+        //given
+        WalPointStore store = open();
+        for (long i = 1; i <= 16; i++) { // 첫 segment 를 내역으로 채운다.
+            store.appendHistory(new PointHistory(0, 1L, i, TransactionType.CHARGE, i)).join();
+        }
+        store.saveBalance(1L, 136L).join(); // 두 번째 segment 에는 잔고만 남는다.
+        store.snapshot();
+        store.close();
+
+        //when
+        WalPointStore restored = open();
+        PointHistory saved = restored.appendHistory(new PointHistory(0, 1L, 100L, TransactionType.CHARGE, 100L)).join(); // archive 를 읽는 중에도 바로 기록
+
+        //then
+        assertTrue(WriteAheadLog.hasSegments(directory.resolve("archive")));
+        assertEquals(17L, saved.id());
+        assertEquals(17, restored.findHistories(1L).size());
+        assertEquals(List.of(16L, 17L), restored.findHistoriesAfter(1L, 15L, 10).stream().map(PointHistory::id).toList());
+        restored.close();
+    }
+
+    @Test
+    void 한_번의_연산으로_기록한_잔고와_내역은_함께_복구된다() {
+        //given
+        WalPointStore store = open();
+        store.appendOperation(1L, 0L, List.of(
+                new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 10L),
+                new PointHistory(0, 1L, 200L, TransactionType.USE, 11L)
+        )).join();
+        store.close();
+
+        //when
+        WalPointStore restored = open();
+
+        //then
+        assertEquals(new UserPoint(1L, 300L, 11L), restored.findBalance(1L));
+        assertEquals(2, restored.findHistories(1L).size());
+        restored.close();
+    }
+
+    @Test
+    void 연산_기록_시점의_잔고가_예상과_다르면_기록하지_않는다() {
+        //given
+        WalPointStore store = open();
+        store.saveBalance(1L, 100L).join();
+
+        //when & then
+        assertThrows(ConcurrentUpdateException.class, () -> store.appendOperation(1L, 0L,
+                List.of(new PointHistory(0, 1L, 500L, TransactionType.CHARGE, 10L))));
+        assertEquals(100L, store.findBalance(1L).point());
+        assertTrue(store.findHistories(1L).isEmpty());
+        store.close();
+    }
+
+    @Test
+    void WAL_에_기록하지_못한_연산의_내역과_잔고는_반영하지_않는다() {
+        //given
+        WalPointStore store = open();
+        List<PointHistory> pointHistories = new ArrayList<>();
+        for (long i = 1; i <= 16; i++) { // 잔고 레코드까지 17건이라 segment(16건)에 들어가지 않는다.
+            pointHistories.add(new PointHistory(0, 1L, 10L, TransactionType.CHARGE, i));
+        }
+
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> store.appendOperation(1L, 0L, pointHistories));
+        assertEquals(0L, store.findBalance(1L).point());
+        assertTrue(store.findHistories(1L).isEmpty());
+        PointHistory saved = store.appendHistory(new PointHistory(0, 1L, 10L, TransactionType.CHARGE, 20L)).join();
+        assertEquals(1L, saved.id()); // 실패한 연산의 id 는 소비되지 않는다.
+        store.close();
+    }
+
+    @Test
+    void 종료된_뒤에는_내역을_저장하지_못하고_조회에도_남지_않는다() {
+        //given
+        WalPointStore store = open();
+        store.close();
+
+        //when & then
+        assertThrows(IllegalStateException.class,
+                () -> store.appendHistory(new PointHistory(0, 1L, 10L, TransactionType.CHARGE, 10L)));
+        assertTrue(store.findHistories(1L).isEmpty());
+    }
+
+    private WalPointStore open() {
+        return new WalPointStore(directory.toString(), WalRecord.SIZE * 16, "per-op", 1L, 0L, new SimpleMeterRegistry());
+    }
+}
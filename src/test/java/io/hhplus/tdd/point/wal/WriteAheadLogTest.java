@@ -0,0 +1,204 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteAheadLogTest {
+
+    private static final int SEGMENT_SIZE = WalRecord.SIZE * 4; // segment 당 레코드 4건
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 다시_열면_기록한_순서대로_재생된다() {
+        //given
+        try (WriteAheadLog wal = open(FsyncPolicy.PER_OP, record -> { })) {
+            wal.append(WalRecord.balance(new UserPoint(1L, 100L, 10L))).join();
+            wal.append(WalRecord.history(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 10L))).join();
+        }
+
+        //when
+        List<WalRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog wal = open(FsyncPolicy.PER_OP, replayed::add)) {
+
+            //then
+            assertEquals(2, replayed.size());
+            assertEquals(new UserPoint(1L, 100L, 10L), replayed.get(0).toUserPoint());
+            assertEquals(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 10L), replayed.get(1).toPointHistory());
+            assertEquals(2L, wal.lastSequence());
+        }
+    }
+
+    @Test
+    void segment_가_가득_차면_다음_segment_에_이어서_기록한다() throws IOException {
+        //given
+        try (WriteAheadLog wal = open(FsyncPolicy.GROUP_COMMIT, record -> { })) {
+            for (long i = 1; i <= 10; i++) {
+                wal.append(WalRecord.balance(new UserPoint(i, i, i))).join();
+            }
+        }
+
+        //when
+        List<WalRecord> replayed = new ArrayList<>();
+        open(FsyncPolicy.NONE, replayed::add).close();
+
+        //then
+        assertEquals(10, replayed.size());
+        assertEquals(10L, replayed.get(9).sequence());
+        assertEquals(3, segmentFiles().size());
+    }
+
+    @Test
+    void 기록_도중_중단된_레코드부터는_버리고_이어서_기록한다() throws IOException {
+        //given
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, record -> { })) {
+            for (long i = 1; i <= 3; i++) {
+                wal.append(WalRecord.balance(new UserPoint(i, i, i)));
+            }
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            file.seek(WalRecord.SIZE * 2 + 30); // 세 번째 레코드의 일부가 깨진 상태
+            file.write(0x55);
+        }
+
+        //when
+        List<WalRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, replayed::add)) {
+            wal.append(WalRecord.balance(new UserPoint(9L, 9L, 9L)));
+        }
+        List<WalRecord> replayedAgain = new ArrayList<>();
+        open(FsyncPolicy.NONE, replayedAgain::add).close();
+
+        //then
+        assertEquals(2, replayed.size());
+        assertEquals(3, replayedAgain.size());
+        assertEquals(9L, replayedAgain.get(2).userId());
+        assertTrue(replayedAgain.stream().noneMatch(record -> record.userId() == 3L));
+    }
+
+    @Test
+    void 일부만_기록된_묶음은_통째로_버린다() throws IOException {
+        //given
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, record -> { })) {
+            wal.append(WalRecord.balance(new UserPoint(1L, 1L, 1L)));
+            wal.append(List.of(
+                    WalRecord.balance(new UserPoint(2L, 2L, 2L)),
+                    WalRecord.balance(new UserPoint(3L, 3L, 3L)),
+                    WalRecord.balance(new UserPoint(4L, 4L, 4L))
+            ));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            file.seek(WalRecord.SIZE * 3 + 30); // 묶음의 마지막 레코드가 깨진 상태
+            file.write(0x55);
+        }
+
+        //when
+        List<WalRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, replayed::add)) {
+
+            //then
+            assertEquals(1, replayed.size());
+            assertEquals(1L, wal.lastSequence());
+        }
+    }
+
+    @Test
+    void 중간이_비어_있으면_그_뒤에_남은_레코드는_다시_재생하지_않는다() throws IOException {
+        //given
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, record -> { })) {
+            for (long i = 1; i <= 3; i++) {
+                wal.append(WalRecord.balance(new UserPoint(i, i, i)));
+            }
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            file.seek(WalRecord.SIZE + 4); // 두 번째 레코드만 디스크에 기록되지 않은 상태
+            file.write(0);
+        }
+
+        //when
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, record -> { })) {
+            wal.append(WalRecord.balance(new UserPoint(9L, 9L, 9L))); // 두 번째 자리에 기록
+        }
+        List<WalRecord> replayed = new ArrayList<>();
+        open(FsyncPolicy.NONE, replayed::add).close();
+
+        //then
+        assertEquals(2, replayed.size());
+        assertEquals(9L, replayed.get(1).userId());
+        assertTrue(replayed.stream().noneMatch(record -> record.userId() == 3L));
+    }
+
+    @Test
+    void segment_에_남은_공간보다_큰_묶음은_다음_segment_에_기록한다() throws IOException {
+        //given
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, record -> { })) {
+            for (long i = 1; i <= 3; i++) {
+                wal.append(WalRecord.balance(new UserPoint(i, i, i)));
+            }
+            wal.append(List.of(
+                    WalRecord.balance(new UserPoint(4L, 4L, 4L)),
+                    WalRecord.balance(new UserPoint(5L, 5L, 5L))
+            ));
+        }
+
+        //when
+        List<WalRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, replayed::add)) {
+
+            //then
+            assertEquals(5, replayed.size());
+            assertEquals(5L, wal.lastSequence());
+        }
+        assertEquals(2, segmentFiles().size());
+    }
+
+    @Test
+    void 주어진_sequence_까지만_담긴_segment_를_archive_로_옮긴다() throws IOException {
+        //given
+        Path archive = directory.resolve("archive");
+        try (WriteAheadLog wal = open(FsyncPolicy.NONE, record -> { })) {
+            for (long i = 1; i <= 10; i++) { // segment: 1~4, 5~8, 9~10
+                wal.append(WalRecord.balance(new UserPoint(i, i, i)));
+            }
+
+            //when
+            int archived = wal.archiveSegments(6L, archive);
+
+            //then
+            assertEquals(1, archived); // 5~8 segment 는 7, 8 이 남아 있으므로 유지
+        }
+        List<WalRecord> archivedRecords = new ArrayList<>();
+        WriteAheadLog.read(archive, archivedRecords::add);
+        List<WalRecord> replayed = new ArrayList<>();
+        open(FsyncPolicy.NONE, replayed::add).close();
+        assertEquals(4, archivedRecords.size());
+        assertEquals(6, replayed.size());
+        assertEquals(5L, replayed.get(0).sequence());
+    }
+
+    private WriteAheadLog open(FsyncPolicy fsyncPolicy, Consumer<WalRecord> replayHandler) {
+        return new WriteAheadLog(directory, SEGMENT_SIZE, fsyncPolicy, 1L, replayHandler);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}